@@ -18,6 +18,8 @@ public class Config
     
     public static final ConfigValue<Boolean>  corruptionDisabled;
     public static final ModConfigSpec.ConfigValue<Integer> biomeMutationStage;
+    public static final ModConfigSpec.ConfigValue<Integer> corruptionDecaySliceSize;
+    public static final ModConfigSpec.ConfigValue<Boolean> batchCorruptionUpdates;
     public static final ModConfigSpec.ConfigValue<Integer> corruptedEntityAggroStage;
     public static final ModConfigSpec.ConfigValue<Integer> exteritioRaidCooldown;
     public static final ModConfigSpec.ConfigValue<Integer> researchCreditValue;
@@ -40,6 +42,8 @@ public class Config
             .comment("Disable the corruption system.")
             .define("corruptionDisabled", false);
         biomeMutationStage = BUILDER.comment("At what stage do biomes start having a chance to mutate? (-1 disables)").defineInRange("biomeMutationStage", 4, -1, 6);
+        corruptionDecaySliceSize = BUILDER.comment("Maximum corrupted chunks decayed per corruption tick. Larger worlds are decayed over several ticks with a proportionally larger step.").defineInRange("corruptionDecaySliceSize", 2048, 64, 1_000_000);
+        batchCorruptionUpdates = BUILDER.comment("Queue corruption and purification events and apply them once per corruption tick, aggregated per chunk. Reduces cost of mass block breaking at the price of up to ~1 second of latency.").define("batchCorruptionUpdates", false);
         BUILDER.pop();
 
         // Research
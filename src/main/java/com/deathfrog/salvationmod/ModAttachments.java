@@ -6,6 +6,7 @@ import java.util.UUID;
 import javax.annotation.Nonnull;
 
 import com.deathfrog.mctradepost.api.util.NullnessBridge;
+import com.deathfrog.salvationmod.core.engine.ChunkCorruptionSpawnReplacement.ChunkChecks;
 import com.mojang.serialization.Codec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 import net.minecraft.core.UUIDUtil;
@@ -21,12 +22,11 @@ public final class ModAttachments
     public static final DeferredRegister<AttachmentType<?>> ATTACHMENTS =
             DeferredRegister.create(NullnessBridge.assumeNonnull(NeoForgeRegistries.ATTACHMENT_TYPES), SalvationMod.MODID);
 
-    public record ConversionData(
-        int ticksRemaining,
-        boolean isCleansing,
-        Optional<UUID> sourcePlayerUuid,
-        Optional<UUID> retaliationTargetUuid,
-        boolean preserveSourceHealth)
+    /**
+     * Conversion in progress on a living entity. The countdown is mutable and decremented in place by
+     * {@link com.deathfrog.salvationmod.core.engine.ConversionTracker}; the attachment is only serialized when the entity is saved.
+     */
+    public static final class ConversionData
     {
         @SuppressWarnings("null")
         public static final @Nonnull Codec<ConversionData> CODEC = RecordCodecBuilder.create(inst -> inst.group(
@@ -36,6 +36,61 @@ public final class ModAttachments
                 UUIDUtil.CODEC.optionalFieldOf("retaliationTargetUuid").forGetter(ConversionData::retaliationTargetUuid),
                 Codec.BOOL.optionalFieldOf("preserveSourceHealth", false).forGetter(ConversionData::preserveSourceHealth)
         ).apply(inst, ConversionData::new));
+
+        private int ticksRemaining;
+        private final boolean isCleansing;
+        private final Optional<UUID> sourcePlayerUuid;
+        private final Optional<UUID> retaliationTargetUuid;
+        private final boolean preserveSourceHealth;
+
+        public ConversionData(
+            final int ticksRemaining,
+            final boolean isCleansing,
+            final Optional<UUID> sourcePlayerUuid,
+            final Optional<UUID> retaliationTargetUuid,
+            final boolean preserveSourceHealth)
+        {
+            this.ticksRemaining = ticksRemaining;
+            this.isCleansing = isCleansing;
+            this.sourcePlayerUuid = sourcePlayerUuid;
+            this.retaliationTargetUuid = retaliationTargetUuid;
+            this.preserveSourceHealth = preserveSourceHealth;
+        }
+
+        public int ticksRemaining()
+        {
+            return ticksRemaining;
+        }
+
+        public boolean isCleansing()
+        {
+            return isCleansing;
+        }
+
+        public Optional<UUID> sourcePlayerUuid()
+        {
+            return sourcePlayerUuid;
+        }
+
+        public Optional<UUID> retaliationTargetUuid()
+        {
+            return retaliationTargetUuid;
+        }
+
+        public boolean preserveSourceHealth()
+        {
+            return preserveSourceHealth;
+        }
+
+        /**
+         * Advances the conversion by one tick.
+         *
+         * @return the ticks remaining after this one
+         */
+        public int countDown()
+        {
+            return --ticksRemaining;
+        }
     }
 
     public record RefugeeWanderData(boolean enabled)
@@ -59,4 +114,10 @@ public final class ModAttachments
                             .serialize(RefugeeWanderData.CODEC)
                             .build()
             );
+
+    // Level attachment; runtime-only (not serialized), dropped with the level.
+    public static final DeferredHolder<AttachmentType<?>, AttachmentType<ChunkChecks>> SPAWN_REPLACEMENT_CHECKS =
+            ATTACHMENTS.register("spawn_replacement_checks", () ->
+                    AttachmentType.builder(() -> new ChunkChecks()).build()
+            );
 }
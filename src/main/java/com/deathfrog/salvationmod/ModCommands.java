@@ -32,11 +32,13 @@ public class ModCommands
     public static final String CMD_CORRUPTION_PROGRESS =    "progress";
     public static final String CMD_CORRUPTION_RESET =       "reset";
     public static final String CMD_CORRUPTION_HISTORY =     "history";
+    public static final String CMD_CORRUPTION_BENCHMARK =   "benchmark";
     public static final String CMD_BIOME_MAP =              "biomeMap";
     public static final String CMD_DYNTRACE_SETTRACE =      "trace";
     public static final String CMD_EXTERITIO_LOCATION =     "location";
     public static final String CMD_EXTERITIO_RAID =         "raid";
     public static final String CMD_REGENERATE_BOSS =        "regenerateBoss";
+    public static final String CMD_FURNACES =               "furnaces";
 
     @SubscribeEvent
     public static void registerCommands(RegisterCommandsEvent event) 
@@ -48,6 +50,7 @@ public class ModCommands
         final CommandTree corruption = new CommandTree("corruption")
             .addNode(new CommandCorruptionProgress(CMD_CORRUPTION_PROGRESS).build())
             .addNode(new CommandCorruptionHistory(CMD_CORRUPTION_HISTORY).build())
+            .addNode(new CommandCorruptionBenchmark(CMD_CORRUPTION_BENCHMARK).build())
             .addNode(new CommandCorruptionReset(CMD_CORRUPTION_RESET).build());
 
         final CommandTree exteritio = new CommandTree("exteritio")
@@ -62,6 +65,7 @@ public class ModCommands
             .addNode(corruption)
             .addNode(new CommandRegenerateBoss(CMD_REGENERATE_BOSS).build())
             .addNode(new CommandBiomeMap(CMD_BIOME_MAP).build())
+            .addNode(new CommandFurnaces(CMD_FURNACES).build())
             .addNode(new CommandSetTrace(CMD_DYNTRACE_SETTRACE).build());
 
         // Adds all command trees to the dispatcher to register the commands.
@@ -389,6 +389,16 @@ public final class ModTags
             TagKey.create(Registries.LEVEL_STEM, ResourceLocation.fromNamespaceAndPath(SalvationMod.MODID, "corruption_stage6"));
 
 
+        /**
+         * Dimension tags are bound to the level stem registry once the server's data packs have loaded; until then every
+         * {@link #isInDimensionTag} check reads false. The mod ships {@link #DIMENSIONS_STAGE_0}, so its presence marks the binding.
+         */
+        @SuppressWarnings("null")
+        public static boolean areDimensionTagsBound(ServerLevel level)
+        {
+            return level.getServer().registryAccess().lookupOrThrow(Registries.LEVEL_STEM).get(DIMENSIONS_STAGE_0).isPresent();
+        }
+
         @SuppressWarnings("null")
         public static boolean isInDimensionTag(ServerLevel level, TagKey<LevelStem> tag)
         {
@@ -19,9 +19,11 @@ import com.deathfrog.salvationmod.apiimp.initializer.TileEntityInitializer;
 import com.deathfrog.salvationmod.client.render.*;
 import com.deathfrog.salvationmod.core.apiimp.initializer.ModBuildingsInitializer;
 import com.deathfrog.salvationmod.core.apiimp.initializer.ModInteractionInitializer;
+import com.deathfrog.salvationmod.core.blockentity.BeaconCoverageMap;
 import com.deathfrog.salvationmod.core.colony.SalvationHappinessFactorTypeInitializer;
 import com.deathfrog.salvationmod.core.colony.buildings.modules.WithdrawResearchCreditMessage;
 import com.deathfrog.salvationmod.core.engine.BiomeMappingsManager;
+import com.deathfrog.salvationmod.core.engine.ChunkColonyCache;
 import com.deathfrog.salvationmod.core.engine.ChunkCorruptionSystem;
 import com.deathfrog.salvationmod.core.engine.CorruptionPaletteManager;
 import com.deathfrog.salvationmod.core.engine.CorruptionStage;
@@ -203,6 +205,9 @@ public class SalvationMod
                 SalvationEventListener.onCookingComplete(level, furnacePos, output, craftsCompleted, fuelPoints, fuelSnapshot, recipeType, recipeId);
             }
         );
+
+        ChunkColonyCache.registerColonyListeners();
+        BeaconCoverageMap.registerColonyListeners();
         
     }
 
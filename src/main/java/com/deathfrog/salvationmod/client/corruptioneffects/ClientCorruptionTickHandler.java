@@ -7,6 +7,7 @@ import net.minecraft.client.Minecraft;
 import net.neoforged.api.distmarker.Dist;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.client.event.ClientPlayerNetworkEvent;
 import net.neoforged.neoforge.client.event.ClientTickEvent;
 
 @EventBusSubscriber(modid = SalvationMod.MODID, value = Dist.CLIENT)
@@ -20,6 +21,12 @@ public final class ClientCorruptionTickHandler
         if (mc.level == null || mc.player == null) return;
         if (mc.isPaused()) return; // keep it frozen while paused
 
-        ClientChunkCorruptionState.clientTick();
+        ClientChunkCorruptionState.clientTick(mc.player.getX(), mc.player.getZ());
+    }
+
+    @SubscribeEvent
+    public static void onLoggingOut(final ClientPlayerNetworkEvent.LoggingOut event)
+    {
+        ClientChunkCorruptionState.clear();
     }
 }
\ No newline at end of file
@@ -2,6 +2,8 @@ package com.deathfrog.salvationmod.client.corruptioneffects;
 
 import com.deathfrog.salvationmod.ModTags;
 import com.deathfrog.salvationmod.SalvationMod;
+import com.deathfrog.salvationmod.core.engine.ChunkCorruptionSystem;
+import com.deathfrog.salvationmod.network.ClientChunkCorruptionState;
 import com.mojang.blaze3d.shaders.FogShape;
 
 import net.minecraft.client.Camera;
@@ -15,6 +17,10 @@ import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.common.EventBusSubscriber;
 import net.neoforged.neoforge.client.event.ViewportEvent;
 
+/**
+ * Tints and thickens fog in corrupted biomes. Outside them, the fog fades in with the synced chunk corruption sampled
+ * at the camera, so heavily corrupted land reads as such before its biome mutates.
+ */
 @EventBusSubscriber(modid = SalvationMod.MODID, value = Dist.CLIENT)
 public final class CorruptedBiomeFogHandler
 {
@@ -30,17 +36,22 @@ public final class CorruptedBiomeFogHandler
     @SubscribeEvent
     public static void onComputeFogColor(final ViewportEvent.ComputeFogColor event)
     {
-        if (!isCorruptedBiome(event.getCamera())) return;
+        final float strength = fogStrength(event.getCamera());
+        if (strength <= 0.0F) return;
 
-        event.setRed(Mth.lerp(COLOR_BLEND, event.getRed(), FOG_RED));
-        event.setGreen(Mth.lerp(COLOR_BLEND, event.getGreen(), FOG_GREEN));
-        event.setBlue(Mth.lerp(COLOR_BLEND, event.getBlue(), FOG_BLUE));
+        final float blend = COLOR_BLEND * strength;
+        event.setRed(Mth.lerp(blend, event.getRed(), FOG_RED));
+        event.setGreen(Mth.lerp(blend, event.getGreen(), FOG_GREEN));
+        event.setBlue(Mth.lerp(blend, event.getBlue(), FOG_BLUE));
     }
 
     @SubscribeEvent
     public static void onRenderFog(final ViewportEvent.RenderFog event)
     {
-        if (event.getType() != FogType.NONE || !isCorruptedBiome(event.getCamera())) return;
+        if (event.getType() != FogType.NONE) return;
+
+        final float strength = fogStrength(event.getCamera());
+        if (strength <= 0.0F) return;
 
         final float farPlane = event.getFarPlaneDistance();
         final boolean skyFog = event.getMode() == FogRenderer.FogMode.FOG_SKY;
@@ -48,17 +59,26 @@ public final class CorruptedBiomeFogHandler
             ? Math.min(farPlane * 0.70F, 144.0F)
             : Math.min(farPlane * 0.48F, 96.0F);
 
-        event.setNearPlaneDistance(skyFog ? 0.0F : Math.min(fogEnd * 0.22F, 18.0F));
-        event.setFarPlaneDistance(Math.max(fogEnd, skyFog ? 48.0F : 32.0F));
+        final float nearPlane = skyFog ? 0.0F : Math.min(fogEnd * 0.22F, 18.0F);
+        event.setNearPlaneDistance(Mth.lerp(strength, event.getNearPlaneDistance(), nearPlane));
+        event.setFarPlaneDistance(Mth.lerp(strength, farPlane, Math.max(fogEnd, skyFog ? 48.0F : 32.0F)));
         event.setFogShape(FogShape.SPHERE);
         event.setCanceled(true);
     }
 
+    /**
+     * @return 1 in a corrupted biome, otherwise the camera's sampled chunk corruption normalized between the visible
+     *         and standard thresholds
+     */
     @SuppressWarnings("null")
-    private static boolean isCorruptedBiome(final Camera camera)
+    private static float fogStrength(final Camera camera)
     {
         final Level level = camera.getEntity().level();
         final BlockPos pos = camera.getBlockPosition();
-        return level.getBiome(pos).is(ModTags.Biomes.CORRUPTED_BIOMES);
+        if (level.getBiome(pos).is(ModTags.Biomes.CORRUPTED_BIOMES)) return 1.0F;
+
+        final float corruption = ClientChunkCorruptionState.sampleCorruption(camera.getPosition().x, camera.getPosition().z);
+        return Mth.clamp((corruption - ChunkCorruptionSystem.VISIBLE_THRESHOLD)
+            / (float) (ChunkCorruptionSystem.STANDARD_CORRUPTION_THRESHOLD - ChunkCorruptionSystem.VISIBLE_THRESHOLD), 0.0F, 1.0F);
     }
 }
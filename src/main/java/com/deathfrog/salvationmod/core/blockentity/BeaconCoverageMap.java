@@ -0,0 +1,224 @@
+package com.deathfrog.salvationmod.core.blockentity;
+
+import java.util.WeakHashMap;
+
+import javax.annotation.Nonnull;
+
+import org.slf4j.Logger;
+
+import com.deathfrog.mctradepost.api.util.TraceUtils;
+import com.deathfrog.salvationmod.ModCommands;
+import com.deathfrog.salvationmod.core.colony.SalvationColonyHandler;
+import com.minecolonies.api.IMinecoloniesAPI;
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.eventbus.events.colony.ColonyDeletedModEvent;
+import com.mojang.logging.LogUtils;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+
+/**
+ * Per-colony raster of the chunks covered by the colony's registered purification beacons.
+ *
+ * Each covered chunk resolves to a single packed long so coverage queries are one primitive map probe:
+ *  - bits 0..15  : number of valid beacons whose pulse reaches the chunk
+ *  - bits 16..31 : how many of those carry a harvest upgrade
+ *
+ * Rasters are keyed by level and colony id (not {@link IColony} identity) and are updated incrementally:
+ * a beacon registering, being cleared, changing validity or changing modules only re-rasterizes its own
+ * (2r+1)^2 square. The colony's beacon research (enabled, range) is cached alongside the raster;
+ * a range change rebuilds the raster from the recorded beacons. A colony's raster is dropped when the colony is deleted.
+ */
+public final class BeaconCoverageMap
+{
+    private BeaconCoverageMap() {}
+
+    public static final Logger LOGGER = LogUtils.getLogger();
+
+    static final int FLAG_VALID = 1;
+    static final int FLAG_HARVEST = 2;
+
+    private static final int COUNT_MASK = 0xFFFF;
+    private static final int HARVEST_SHIFT = 16;
+
+    private static final WeakHashMap<ServerLevel, Int2ObjectOpenHashMap<ColonyCoverage>> COVERAGE = new WeakHashMap<>();
+
+    private static boolean listeningForColonies = false;
+
+    private static final class ColonyCoverage
+    {
+        private boolean enabled;
+        private int radius;
+        // beacon BlockPos.asLong() -> FLAG_* bits
+        private final Long2IntOpenHashMap beacons = new Long2IntOpenHashMap();
+        // chunkKey -> packed coverage (absent = uncovered)
+        private final Long2LongOpenHashMap chunks = new Long2LongOpenHashMap();
+    }
+
+    /**
+     * Subscribes to MineColonies colony deletion so a deleted colony's raster does not outlive it.
+     * Safe to call more than once.
+     */
+    public static void registerColonyListeners()
+    {
+        if (listeningForColonies) return;
+
+        listeningForColonies = true;
+        IMinecoloniesAPI.getInstance().getEventBus().subscribe(ColonyDeletedModEvent.class, event -> removeColony(event.getColony()));
+    }
+
+    /**
+     * Records the current state of a registered beacon, re-rasterizing its square if anything changed.
+     */
+    static void updateBeacon(@Nonnull final ServerLevel level, @Nonnull final IColony colony, @Nonnull final BlockPos pos, final boolean valid, final boolean harvest)
+    {
+        final ColonyCoverage coverage = coverageFor(level, colony);
+        final long packedPos = pos.asLong();
+        final int flags = (valid ? FLAG_VALID : 0) | (harvest ? FLAG_HARVEST : 0);
+        final int previous = coverage.beacons.put(packedPos, flags);
+
+        if (previous == flags) return;
+
+        rasterize(coverage, packedPos, previous, -1);
+        rasterize(coverage, packedPos, flags, 1);
+    }
+
+    /**
+     * Removes a beacon that is no longer registered to the colony.
+     */
+    static void removeBeacon(@Nonnull final ServerLevel level, final int colonyId, @Nonnull final BlockPos pos)
+    {
+        final Int2ObjectOpenHashMap<ColonyCoverage> colonies = COVERAGE.get(level);
+        final ColonyCoverage coverage = colonies == null ? null : colonies.get(colonyId);
+        if (coverage == null) return;
+
+        final long packedPos = pos.asLong();
+        if (!coverage.beacons.containsKey(packedPos)) return;
+
+        rasterize(coverage, packedPos, coverage.beacons.remove(packedPos), -1);
+    }
+
+    /**
+     * Drops the raster of a deleted colony.
+     */
+    private static void removeColony(final IColony colony)
+    {
+        if (colony == null || !(colony.getWorld() instanceof ServerLevel level)) return;
+
+        final Int2ObjectOpenHashMap<ColonyCoverage> colonies = COVERAGE.get(level);
+        if (colonies != null && colonies.remove(colony.getID()) != null)
+        {
+            TraceUtils.dynamicTrace(ModCommands.TRACE_BEACON, () -> LOGGER.info("Dropped beacon coverage of deleted colony {}.", colony.getID()));
+        }
+    }
+
+    /**
+     * Re-reads the colony's beacon research and rebuilds its raster if the range changed.
+     * Called from the periodic colony logic.
+     */
+    public static void refreshColonyResearch(@Nonnull final ServerLevel level, @Nonnull final IColony colony)
+    {
+        final Int2ObjectOpenHashMap<ColonyCoverage> colonies = COVERAGE.get(level);
+        final ColonyCoverage coverage = colonies == null ? null : colonies.get(colony.getID());
+        if (coverage == null) return;
+
+        final int previousRadius = coverage.radius;
+        readResearch(coverage, colony);
+
+        if (coverage.radius != previousRadius)
+        {
+            TraceUtils.dynamicTrace(ModCommands.TRACE_BEACON, () -> LOGGER.info("Beacon range for colony {} changed from {} to {}; rebuilding coverage.",
+                colony.getID(), previousRadius, coverage.radius));
+
+            coverage.chunks.clear();
+            final ObjectIterator<Long2IntMap.Entry> it = coverage.beacons.long2IntEntrySet().fastIterator();
+            while (it.hasNext())
+            {
+                final Long2IntMap.Entry entry = it.next();
+                rasterize(coverage, entry.getLongKey(), entry.getIntValue(), 1);
+            }
+        }
+    }
+
+    /**
+     * Returns the packed coverage of a chunk by the given colony's beacons.
+     *
+     * @return the packed entry, or 0 if uncovered or the colony has not enabled beacons;
+     *         decode with {@link #harvestBeacons(long)}
+     */
+    public static long coverageAt(@Nonnull final ServerLevel level, final int colonyId, final long chunkKey)
+    {
+        final Int2ObjectOpenHashMap<ColonyCoverage> colonies = COVERAGE.get(level);
+        final ColonyCoverage coverage = colonies == null ? null : colonies.get(colonyId);
+
+        if (coverage == null || !coverage.enabled) return 0L;
+
+        return coverage.chunks.get(chunkKey);
+    }
+
+    /**
+     * @return the number of covering beacons that carry a harvest upgrade
+     */
+    public static int harvestBeacons(final long packed)
+    {
+        return (int) ((packed >>> HARVEST_SHIFT) & COUNT_MASK);
+    }
+
+    private static ColonyCoverage coverageFor(final ServerLevel level, final IColony colony)
+    {
+        final Int2ObjectOpenHashMap<ColonyCoverage> colonies = COVERAGE.computeIfAbsent(level, l -> new Int2ObjectOpenHashMap<>());
+        ColonyCoverage coverage = colonies.get(colony.getID());
+
+        if (coverage == null)
+        {
+            coverage = new ColonyCoverage();
+            readResearch(coverage, colony);
+            colonies.put(colony.getID(), coverage);
+        }
+
+        return coverage;
+    }
+
+    private static void readResearch(final ColonyCoverage coverage, final IColony colony)
+    {
+        coverage.enabled = colony.getResearchManager().getResearchEffects().getEffectStrength(SalvationColonyHandler.RESEARCH_ENABLE_BEACONS) > 0;
+        coverage.radius = 1 + (int) colony.getResearchManager().getResearchEffects().getEffectStrength(SalvationColonyHandler.RESEARCH_BEACON_RANGE);
+    }
+
+    /**
+     * Adds (sign 1) or removes (sign -1) a beacon's contribution over its square of chunks.
+     */
+    private static void rasterize(final ColonyCoverage coverage, final long packedPos, final int flags, final int sign)
+    {
+        if ((flags & FLAG_VALID) == 0) return;
+
+        final long delta = 1L | ((flags & FLAG_HARVEST) != 0 ? 1L << HARVEST_SHIFT : 0L);
+        final int originX = BlockPos.getX(packedPos) >> 4;
+        final int originZ = BlockPos.getZ(packedPos) >> 4;
+        final int radius = coverage.radius;
+
+        for (int dx = -radius; dx <= radius; dx++)
+        {
+            for (int dz = -radius; dz <= radius; dz++)
+            {
+                final long chunkKey = ChunkPos.asLong(originX + dx, originZ + dz);
+                final long updated = coverage.chunks.get(chunkKey) + (sign * delta);
+
+                if (updated == 0L)
+                {
+                    coverage.chunks.remove(chunkKey);
+                }
+                else
+                {
+                    coverage.chunks.put(chunkKey, updated);
+                }
+            }
+        }
+    }
+}
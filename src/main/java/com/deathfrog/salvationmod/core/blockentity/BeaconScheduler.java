@@ -0,0 +1,106 @@
+package com.deathfrog.salvationmod.core.blockentity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.WeakHashMap;
+
+import javax.annotation.Nonnull;
+
+import com.deathfrog.salvationmod.SalvationMod;
+import com.deathfrog.salvationmod.core.engine.CorruptionDeltaBatch;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongHeapPriorityQueue;
+import net.minecraft.server.level.ServerLevel;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import net.neoforged.neoforge.event.tick.LevelTickEvent;
+
+/**
+ * Central per-level scheduler for purification beacon cores, replacing a per-block-entity ticker.
+ *
+ * Each beacon is due at a single game time (the earliest of its next pulse, revalidation and solar charge);
+ * beacons are bucketed by that time and the due times are kept in a primitive min-heap, so a level tick
+ * with nothing due costs one heap peek. Rescheduling does not search for the old entry: a beacon remembers
+ * the time it is due, and entries that no longer match (or whose block entity was removed) are skipped.
+ * Like the block entity ticker it replaces, a beacon only runs while its chunk ticks blocks; otherwise it defers itself.
+ *
+ * Beacon pulses are accumulated in {@link CorruptionDeltaBatch} and flushed once after the tick's due beacons have run.
+ */
+@EventBusSubscriber(modid = SalvationMod.MODID)
+public final class BeaconScheduler
+{
+    private BeaconScheduler() {}
+
+    private static final class LevelSchedule
+    {
+        private final LongHeapPriorityQueue dueTimes = new LongHeapPriorityQueue();
+        // due game time -> beacons scheduled for it
+        private final Long2ObjectOpenHashMap<List<PurificationBeaconCoreBlockEntity>> buckets = new Long2ObjectOpenHashMap<>();
+    }
+
+    // Values hold block entities (which reference their level), so entries are dropped explicitly on level unload.
+    private static final WeakHashMap<ServerLevel, LevelSchedule> SCHEDULES = new WeakHashMap<>();
+
+    /**
+     * Schedules the beacon to wake at the given game time, superseding any earlier schedule for it.
+     */
+    static void schedule(@Nonnull final ServerLevel level, @Nonnull final PurificationBeaconCoreBlockEntity beacon, final long dueTime)
+    {
+        final LevelSchedule schedule = SCHEDULES.computeIfAbsent(level, l -> new LevelSchedule());
+
+        List<PurificationBeaconCoreBlockEntity> bucket = schedule.buckets.get(dueTime);
+        if (bucket == null)
+        {
+            bucket = new ArrayList<>(2);
+            schedule.buckets.put(dueTime, bucket);
+            schedule.dueTimes.enqueue(dueTime);
+        }
+
+        bucket.add(beacon);
+        beacon.setScheduledWake(dueTime);
+    }
+
+    @SubscribeEvent
+    public static void onLevelTick(final LevelTickEvent.Post event)
+    {
+        if (!(event.getLevel() instanceof ServerLevel level)) return;
+
+        final LevelSchedule schedule = SCHEDULES.get(level);
+        if (schedule == null) return;
+
+        final long gameTime = level.getGameTime();
+        boolean woke = false;
+
+        while (!schedule.dueTimes.isEmpty() && schedule.dueTimes.firstLong() <= gameTime)
+        {
+            final long dueTime = schedule.dueTimes.dequeueLong();
+            final List<PurificationBeaconCoreBlockEntity> bucket = schedule.buckets.remove(dueTime);
+            if (bucket == null) continue;
+
+            for (final PurificationBeaconCoreBlockEntity beacon : bucket)
+            {
+                if (beacon.isRemoved() || beacon.getLevel() != level || beacon.getScheduledWake() != dueTime) continue;
+
+                beacon.onScheduledWake(level, gameTime);
+                woke = true;
+            }
+        }
+
+        if (woke)
+        {
+            // Overlapping pulses from this tick are merged per chunk and applied once.
+            CorruptionDeltaBatch.flushPulses(level);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(final LevelEvent.Unload event)
+    {
+        if (event.getLevel() instanceof ServerLevel level)
+        {
+            SCHEDULES.remove(level);
+        }
+    }
+}
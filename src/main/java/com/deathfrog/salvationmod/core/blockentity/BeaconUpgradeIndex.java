@@ -0,0 +1,76 @@
+package com.deathfrog.salvationmod.core.blockentity;
+
+import java.util.WeakHashMap;
+
+import javax.annotation.Nonnull;
+
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+
+/**
+ * Per-level index of loaded beacon cores carrying a shielding upgrade (exploration beacons always shield),
+ * counted per chunk so spread checks are a single primitive map probe instead of a walk over the chunk's block entities.
+ *
+ * Maintained by {@link PurificationBeaconCoreBlockEntity} when it loads, is removed or unloaded,
+ * has its module slots changed, or revalidates its structure.
+ */
+final class BeaconUpgradeIndex
+{
+    private BeaconUpgradeIndex() {}
+
+    private static final WeakHashMap<ServerLevel, LevelIndex> INDEXES = new WeakHashMap<>();
+
+    private static final class LevelIndex
+    {
+        private final LongOpenHashSet shieldingBeacons = new LongOpenHashSet();
+        // chunkKey -> shielding beacons in that chunk (absent = 0)
+        private final Long2IntOpenHashMap shieldedChunks = new Long2IntOpenHashMap();
+    }
+
+    /**
+     * Records whether the beacon at the given position currently shields its chunk.
+     */
+    static void update(@Nonnull final ServerLevel level, @Nonnull final BlockPos pos, final boolean shielding)
+    {
+        final LevelIndex index = INDEXES.computeIfAbsent(level, l -> new LevelIndex());
+        final long packed = pos.asLong();
+        final long chunkKey = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+
+        if (shielding)
+        {
+            if (index.shieldingBeacons.add(packed))
+            {
+                index.shieldedChunks.addTo(chunkKey, 1);
+            }
+        }
+        else if (index.shieldingBeacons.remove(packed))
+        {
+            if (index.shieldedChunks.addTo(chunkKey, -1) <= 1)
+            {
+                index.shieldedChunks.remove(chunkKey);
+            }
+        }
+    }
+
+    /**
+     * Forgets the beacon at the given position (removed or unloaded).
+     */
+    static void remove(@Nonnull final ServerLevel level, @Nonnull final BlockPos pos)
+    {
+        if (!INDEXES.containsKey(level)) return;
+
+        update(level, pos, false);
+    }
+
+    /**
+     * @return true if a loaded beacon with a shielding upgrade sits in the given chunk
+     */
+    static boolean isChunkShielded(@Nonnull final ServerLevel level, final long chunkKey)
+    {
+        final LevelIndex index = INDEXES.get(level);
+        return index != null && index.shieldedChunks.containsKey(chunkKey);
+    }
+}
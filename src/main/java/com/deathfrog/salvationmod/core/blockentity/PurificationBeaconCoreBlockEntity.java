@@ -20,6 +20,8 @@ import com.deathfrog.salvationmod.api.advancements.ModAdvancementTriggers;
 import com.deathfrog.salvationmod.api.tileentities.SalvationTileEntities;
 import com.deathfrog.salvationmod.core.blocks.PurificationBeaconCoreBlock;
 import com.deathfrog.salvationmod.core.engine.BlightSurfaceSystem;
+import com.deathfrog.salvationmod.core.engine.ChunkColonyCache;
+import com.deathfrog.salvationmod.core.engine.CorruptionDeltaBatch;
 import com.deathfrog.salvationmod.core.engine.EntityConversion;
 import com.deathfrog.salvationmod.core.colony.SalvationColonyHandler;
 import com.deathfrog.salvationmod.core.engine.SalvationManager;
@@ -50,10 +52,8 @@ import net.minecraft.world.phys.AABB;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
-import net.minecraft.world.level.block.entity.BlockEntityTicker;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.properties.BooleanProperty;
-import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraft.network.chat.Component;
 import net.minecraft.world.ContainerHelper;
 
@@ -89,6 +89,9 @@ public final class PurificationBeaconCoreBlockEntity extends BlockEntity impleme
     /** How often to revalidate structure even if nothing changed (ticks). */
     private static final int DEFAULT_REVALIDATE_INTERVAL_TICKS = 200;
 
+    /** How often an idle beacon (outside a colony, or beacons not researched) checks whether it can start working (ticks). */
+    private static final int IDLE_RECHECK_INTERVAL_TICKS = 20;
+
     /** Height of the pillar. */
     private static final int PILLAR_HEIGHT = 4;
 
@@ -110,6 +113,19 @@ public final class PurificationBeaconCoreBlockEntity extends BlockEntity impleme
     private int solarChargeCountdown = SOLAR_FUEL_INTERVAL_TICKS;
 
     private int boostingFuel = 0;
+
+    /** Game time the countdowns were last advanced to, and which of them were running since then. */
+    private long lastAdvanceTime = Long.MIN_VALUE;
+    private boolean revalidateRunning = false;
+    private boolean pulseRunning = false;
+    private boolean solarRunning = false;
+
+    /** Game time this beacon is due in the {@link BeaconScheduler}. */
+    private long scheduledWake = Long.MIN_VALUE;
+
+    /** True while the beacon's chunk is loaded but not ticking; its countdowns are paused. */
+    private boolean wakeDeferred = false;
+
     private NonNullList<ItemStack> items = NonNullList.withSize(SLOT_COUNT, NullnessBridge.assumeNonnull(ItemStack.EMPTY));
 
     private static Map<IColony, Map<BlockPos, Beacon>> colonyBeacons = new HashMap<>();
@@ -126,20 +142,88 @@ public final class PurificationBeaconCoreBlockEntity extends BlockEntity impleme
     {
         this.validationRequested = true;
         this.setChanged();
+
+        if (level instanceof ServerLevel serverLevel && !isRemoved() && scheduledWake > serverLevel.getGameTime() + 1)
+        {
+            BeaconScheduler.schedule(serverLevel, this, serverLevel.getGameTime() + 1);
+        }
     }
 
     // ---------------------------------------------------------------------
-    // Ticking
+    // Scheduling
     // ---------------------------------------------------------------------
-    public static <T extends BlockEntity> BlockEntityTicker<T> createTicker()
+
+    long getScheduledWake()
     {
-        return (level, pos, state, be) ->
+        return scheduledWake;
+    }
+
+    void setScheduledWake(final long scheduledWake)
+    {
+        this.scheduledWake = scheduledWake;
+    }
+
+    /**
+     * Brings the countdowns up to the given game time, decrementing each one that was running since the last advance.
+     * The countdowns are kept relative (and persisted as such) so the beacon only needs to run when one of them expires.
+     */
+    private void advanceCountdowns(final long gameTime)
+    {
+        if (lastAdvanceTime == Long.MIN_VALUE)
         {
-            if (be instanceof PurificationBeaconCoreBlockEntity core)
+            lastAdvanceTime = gameTime;
+            return;
+        }
+
+        final int elapsed = (int) Math.min(Integer.MAX_VALUE, gameTime - lastAdvanceTime);
+        if (elapsed <= 0)
+        {
+            return;
+        }
+
+        if (revalidateRunning) revalidateCountdown -= elapsed;
+        if (pulseRunning) pulseCountdown -= elapsed;
+        if (solarRunning) solarChargeCountdown -= elapsed;
+
+        lastAdvanceTime = gameTime;
+    }
+
+    /**
+     * Called by the {@link BeaconScheduler} when this beacon is due. Does the work that is due and schedules the next wake.
+     */
+    void onScheduledWake(final @Nonnull ServerLevel level, final long gameTime)
+    {
+        final BlockPos pos = worldPosition;
+        if (pos == null)
+        {
+            return;
+        }
+
+        // Block entity tickers only run in block-ticking chunks; beacons in lazy or border chunks wait, countdowns paused.
+        if (!level.shouldTickBlocksAt(pos))
+        {
+            if (wakeDeferred)
+            {
+                lastAdvanceTime = gameTime;
+            }
+            else
             {
-                core.tick(level, pos, state);
+                advanceCountdowns(gameTime);
+                wakeDeferred = true;
             }
-        };
+
+            BeaconScheduler.schedule(level, this, gameTime + IDLE_RECHECK_INTERVAL_TICKS);
+            return;
+        }
+
+        wakeDeferred = false;
+        advanceCountdowns(gameTime);
+        revalidateRunning = false;
+        pulseRunning = false;
+        solarRunning = false;
+
+        final int nextWake = tick(level, pos, getBlockState());
+        BeaconScheduler.schedule(level, this, gameTime + Math.max(1, nextWake));
     }
 
     /**
@@ -159,39 +243,47 @@ public final class PurificationBeaconCoreBlockEntity extends BlockEntity impleme
             return;
         }
 
-        if (isExplorationBeacon())
+        registered = !isExplorationBeacon() && tryRegisterBeacon(serverLevel, worldPosition);
+        refreshBeaconIndexes();
+
+        lastAdvanceTime = serverLevel.getGameTime();
+        BeaconScheduler.schedule(serverLevel, this, lastAdvanceTime + 1);
+    }
+
+    /**
+     * Called when the block entity is removed from the world, either because its block was broken or its chunk unloaded.
+     * Drops the beacon from the upgrade index so unloaded beacons no longer answer shielding or harvest queries.
+     */
+    @Override
+    public void setRemoved()
+    {
+        super.setRemoved();
+
+        final BlockPos localPos = worldPosition;
+        if (level instanceof ServerLevel serverLevel && localPos != null)
         {
-            registered = false;
-            return;
+            BeaconUpgradeIndex.remove(serverLevel, localPos);
         }
-
-        registered = tryRegisterBeacon(serverLevel, worldPosition);
     }
 
     /**
-     * Server-side ticking for the Purification Beacon Core block entity.
+     * Server-side logic for the Purification Beacon Core block entity, run by the {@link BeaconScheduler} when one
+     * of the beacon's countdowns has expired (or validation was requested).
      *
-     * This method is called on the server every tick, and is responsible for:
+     * This method is responsible for:
      * - Periodically revalidating the structure of the beacon.
      * - Requesting revalidation when the beacon's neighbors change.
+     * - Charging boosting fuel from solar upgrades.
      * - Sending out a pulse of purification to the surrounding chunks when the beacon is active.
+     *
+     * @return the number of ticks until the beacon next needs to run
      */
-    private void tick(final Level level, final @Nonnull BlockPos pos, final @Nonnull BlockState state)
+    private int tick(final @Nonnull ServerLevel serverLevel, final @Nonnull BlockPos pos, final @Nonnull BlockState state)
     {
-        if (level.isClientSide())
-        {
-            return;
-        }
-
-        if (!(level instanceof ServerLevel serverLevel))
-        {
-            return;
-        }
-
         // If the core block got replaced, do nothing (defensive)
         if (!isSupportedBeaconBlock(state))
         {
-            return;
+            return IDLE_RECHECK_INTERVAL_TICKS;
         }
 
         final boolean explorationBeacon = isExplorationBeacon(state);
@@ -200,6 +292,11 @@ public final class PurificationBeaconCoreBlockEntity extends BlockEntity impleme
         if (!explorationBeacon && !registered)
         {
             registered = tryRegisterBeacon(serverLevel, pos);
+
+            if (registered)
+            {
+                refreshBeaconIndexes();
+            }
         }
 
         final IColony colony = explorationBeacon ? null : IColonyManager.getInstance().getIColony(serverLevel, pos);
@@ -209,7 +306,7 @@ public final class PurificationBeaconCoreBlockEntity extends BlockEntity impleme
         if (!explorationBeacon && (colony == null || beacon == null))
         {
             setLit(false);
-            return;
+            return IDLE_RECHECK_INTERVAL_TICKS;
         }
 
         boolean enabled = explorationBeacon
@@ -219,11 +316,12 @@ public final class PurificationBeaconCoreBlockEntity extends BlockEntity impleme
         if (!enabled)
         {
             setLit(false);
-            return;
+            return IDLE_RECHECK_INTERVAL_TICKS;
         }
 
         // Periodic revalidation, plus "requested" revalidation
-        if (validationRequested || --revalidateCountdown <= 0)
+        revalidateRunning = true;
+        if (validationRequested || revalidateCountdown <= 0)
         {
             revalidateCountdown = DEFAULT_REVALIDATE_INTERVAL_TICKS;
             validationRequested = false;
@@ -257,21 +355,24 @@ public final class PurificationBeaconCoreBlockEntity extends BlockEntity impleme
 
                 this.setChanged();
             }
+
+            refreshBeaconIndexes();
         }
 
         if (!structureValid)
         {
             setLit(false);
-            return;
+            return revalidateCountdown;
         }
 
-        tickSolarUpgrade(serverLevel, pos);
+        final boolean hasSolar = tickSolarUpgrade(serverLevel, pos);
         setLit(boostingFuel > 0);
 
         // Countdown to pulse
-        if (--pulseCountdown > 0)
+        pulseRunning = true;
+        if (pulseCountdown > 0)
         {
-            return;
+            return nextWake(hasSolar);
         }
 
         final ChunkPos origin = new ChunkPos(pos);
@@ -311,8 +412,8 @@ public final class PurificationBeaconCoreBlockEntity extends BlockEntity impleme
                     emitPulseWaveParticles(serverLevel, applyPos);
                 }
 
-                // Negative corruption = purification!
-                SalvationManager.recordCorruption(
+                // Negative corruption = purification! Merged with other pulses this tick and applied by the scheduler.
+                CorruptionDeltaBatch.accumulatePulse(
                     serverLevel,
                     ProgressionSource.BEACON,
                     applyPos,
@@ -337,7 +438,25 @@ public final class PurificationBeaconCoreBlockEntity extends BlockEntity impleme
             applyExtractionUpgrade(serverLevel, pos, origin, radius);
         }
 
+        setLit(boostingFuel > 0);
         this.setChanged();
+
+        return nextWake(hasSolar);
+    }
+
+    /**
+     * @return ticks until the earliest running countdown expires; solar beacons also wake to re-check the sky
+     */
+    private int nextWake(final boolean hasSolar)
+    {
+        int next = Math.min(revalidateCountdown, pulseCountdown);
+
+        if (hasSolar)
+        {
+            next = Math.min(next, solarChargeCountdown);
+        }
+
+        return next;
     }
 
     /**
@@ -433,6 +552,11 @@ public final class PurificationBeaconCoreBlockEntity extends BlockEntity impleme
             {
                 beacons.remove(pos);
                 didClear = true;
+
+                if (colony.getWorld() instanceof ServerLevel serverLevel)
+                {
+                    BeaconCoverageMap.removeBeacon(serverLevel, colony.getID(), pos);
+                }
             }
         }
 
@@ -570,6 +694,11 @@ public final class PurificationBeaconCoreBlockEntity extends BlockEntity impleme
     {
         super.saveAdditional(tag, registries);
 
+        if (level instanceof ServerLevel)
+        {
+            advanceCountdowns(level.getGameTime());
+        }
+
         ContainerHelper.saveAllItems(tag, items, registries);
         tag.putBoolean("StructureValid", structureValid);
         tag.putBoolean("ValidationRequested", validationRequested);
@@ -705,6 +834,11 @@ public final class PurificationBeaconCoreBlockEntity extends BlockEntity impleme
     {
         if (previousFuel <= 0 && currentFuel > 0)
         {
+            if (level != null)
+            {
+                advanceCountdowns(level.getGameTime());
+            }
+
             pulseCountdown = calcPulseCountdown();
 
             if (structureValid)
@@ -744,69 +878,63 @@ public final class PurificationBeaconCoreBlockEntity extends BlockEntity impleme
         return hasInstalledItem(NullnessBridge.assumeNonnull(ModItems.BEACON_UPGRADE_SHIELDING.get()));
     }
 
-    public static boolean hasShieldingBeaconInChunk(@Nonnull final ServerLevel level, @Nonnull final ChunkPos chunkPos)
+    /**
+     * Records this beacon's shielding upgrade in the per-level {@link BeaconUpgradeIndex}, and its validity and
+     * harvest upgrade in the colony's {@link BeaconCoverageMap} if it is registered.
+     * Called whenever the installed modules may have changed, and on load, registration and revalidation.
+     */
+    private void refreshBeaconIndexes()
     {
-        final LevelChunk chunk = level.getChunkSource().getChunkNow(chunkPos.x, chunkPos.z);
-        if (chunk == null)
-        {
-            return false;
-        }
-
-        for (final BlockEntity blockEntity : chunk.getBlockEntities().values())
+        final BlockPos localPos = worldPosition;
+        if (!(level instanceof ServerLevel serverLevel) || localPos == null || isRemoved())
         {
-            if (blockEntity instanceof PurificationBeaconCoreBlockEntity beacon && beacon.hasShieldingUpgrade())
-            {
-                return true;
-            }
+            return;
         }
 
-        return false;
-    }
+        BeaconUpgradeIndex.update(serverLevel, localPos, hasShieldingUpgrade());
 
-    public static boolean isHarvestProtectionInRange(@Nonnull final ServerLevel level, @Nonnull final BlockPos pos)
-    {
-        final IColony colony = IColonyManager.getInstance().getIColony(level, pos);
-        if (colony == null)
+        if (!registered)
         {
-            return false;
+            return;
         }
 
-        final double beaconsEnabled = colony.getResearchManager().getResearchEffects().getEffectStrength(SalvationColonyHandler.RESEARCH_ENABLE_BEACONS);
-        if (beaconsEnabled <= 0.0D)
+        final IColony colony = IColonyManager.getInstance().getIColony(serverLevel, localPos);
+        final Beacon beacon = colony == null ? null : getBeaconAt(serverLevel, localPos);
+        if (colony != null && beacon != null)
         {
-            return false;
+            BeaconCoverageMap.updateBeacon(serverLevel, colony, localPos, beacon.isValid(), hasHarvestUpgrade());
         }
+    }
 
-        final int radius = 1 + (int) colony.getResearchManager().getResearchEffects().getEffectStrength(SalvationColonyHandler.RESEARCH_BEACON_RANGE);
-        final ChunkPos targetChunk = new ChunkPos(pos);
-
-        for (final Beacon beaconInfo : getBeacons(colony))
-        {
-            if (beaconInfo == null || !beaconInfo.isValid())
-            {
-                continue;
-            }
-
-            final BlockPos beaconPos = beaconInfo.getPosition();
-            if (beaconPos == null)
-            {
-                continue;
-            }
+    /**
+     * Determines if a loaded beacon with a shielding upgrade (or an exploration beacon) sits in the given chunk.
+     */
+    public static boolean hasShieldingBeaconInChunk(@Nonnull final ServerLevel level, @Nonnull final ChunkPos chunkPos)
+    {
+        return BeaconUpgradeIndex.isChunkShielded(level, chunkPos.toLong());
+    }
 
-            final BlockEntity blockEntity = level.getBlockEntity(beaconPos);
-            if (!(blockEntity instanceof PurificationBeaconCoreBlockEntity beacon) || !beacon.hasHarvestUpgrade())
-            {
-                continue;
-            }
+    /**
+     * Determines if a loaded beacon with a shielding upgrade (or an exploration beacon) sits in the chunk with the given key.
+     */
+    public static boolean hasShieldingBeaconInChunk(@Nonnull final ServerLevel level, final long chunkKey)
+    {
+        return BeaconUpgradeIndex.isChunkShielded(level, chunkKey);
+    }
 
-            final ChunkPos beaconChunk = new ChunkPos(beaconPos);
-            if (Math.abs(beaconChunk.x - targetChunk.x) <= radius && Math.abs(beaconChunk.z - targetChunk.z) <= radius)
-            {
-                return true;
-            }
+    /**
+     * Determines if the position lies within range of a valid beacon with a harvest upgrade belonging to the colony that owns it.
+     */
+    public static boolean isHarvestProtectionInRange(@Nonnull final ServerLevel level, @Nonnull final BlockPos pos)
+    {
+        final long chunkKey = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+        final int colonyId = ChunkColonyCache.owningColonyId(ChunkColonyCache.lookup(level, chunkKey));
+        if (colonyId == 0)
+        {
+            return false;
         }
 
-        return false;
+        return BeaconCoverageMap.harvestBeacons(BeaconCoverageMap.coverageAt(level, colonyId, chunkKey)) > 0;
     }
 
     private boolean hasInstalledItem(@Nonnull final net.minecraft.world.item.Item item)
@@ -917,12 +1045,14 @@ public final class PurificationBeaconCoreBlockEntity extends BlockEntity impleme
      * - Checking if the solar upgrade is installed.
      * - Checking if the Purification Beacon Core can harvest solar fuel at the given position.
      * - Checking if the Purification Beacon Core is already fully charged.
-     * - If the above conditions are met, decrementing the solar charge countdown and
-     *   recharging the Purification Beacon Core's boosting fuel if the countdown reaches 0.
+     * - If the above conditions are met, running the solar charge countdown and
+     *   recharging the Purification Beacon Core's boosting fuel if the countdown has expired.
+     * Sky and fuel conditions are sampled each time the beacon wakes, which is at least once per charge interval.
      * @param level The current level
      * @param pos The position of the block entity
+     * @return true if a solar upgrade is installed
      */
-    private void tickSolarUpgrade(@Nonnull final ServerLevel level, @Nonnull final BlockPos pos)
+    private boolean tickSolarUpgrade(@Nonnull final ServerLevel level, @Nonnull final BlockPos pos)
     {
         final int solarUpgradeCount = isExplorationBeacon()
             ? EXPLORATION_BEACON_SOLAR_UPGRADES
@@ -930,21 +1060,24 @@ public final class PurificationBeaconCoreBlockEntity extends BlockEntity impleme
         if (solarUpgradeCount <= 0)
         {
             solarChargeCountdown = SOLAR_FUEL_INTERVAL_TICKS;
-            return;
+            return false;
         }
 
         if (!canHarvestSolarFuel(level, pos) || boostingFuel >= SOLAR_MAX_BUFFER)
         {
             solarChargeCountdown = SOLAR_FUEL_INTERVAL_TICKS;
-            return;
+            return true;
         }
 
-        if (--solarChargeCountdown <= 0)
+        if (solarChargeCountdown <= 0)
         {
             solarChargeCountdown = SOLAR_FUEL_INTERVAL_TICKS;
             final int fuelToAdd = Math.min(SOLAR_FUEL_PER_INTERVAL * solarUpgradeCount, SOLAR_MAX_BUFFER - boostingFuel);
             addBoostingFuel(fuelToAdd);
         }
+
+        solarRunning = boostingFuel < SOLAR_MAX_BUFFER;
+        return true;
     }
 
     @SuppressWarnings("null")
@@ -1049,6 +1182,7 @@ public final class PurificationBeaconCoreBlockEntity extends BlockEntity impleme
         final ItemStack result = ContainerHelper.removeItem(items, slot, amount);
         if (!result.isEmpty())
         {
+            refreshBeaconIndexes();
             this.setChanged();
         }
 
@@ -1059,7 +1193,9 @@ public final class PurificationBeaconCoreBlockEntity extends BlockEntity impleme
     @Override
     public @Nonnull ItemStack removeItemNoUpdate(final int slot)
     {
-        return ContainerHelper.takeItem(items, slot);
+        final ItemStack result = ContainerHelper.takeItem(items, slot);
+        refreshBeaconIndexes();
+        return result;
     }
 
     /**
@@ -1088,6 +1224,7 @@ public final class PurificationBeaconCoreBlockEntity extends BlockEntity impleme
 
         items.set(slot, stack.copy());
         items.get(slot).limitSize(MAX_MODULE_STACK_SIZE);
+        refreshBeaconIndexes();
         this.setChanged();
     }
 
@@ -1118,6 +1255,7 @@ public final class PurificationBeaconCoreBlockEntity extends BlockEntity impleme
     public void clearContent()
     {
         items.clear();
+        refreshBeaconIndexes();
         this.setChanged();
     }
 
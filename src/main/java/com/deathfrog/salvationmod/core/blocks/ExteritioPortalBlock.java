@@ -2,6 +2,7 @@ package com.deathfrog.salvationmod.core.blocks;
 
 import com.deathfrog.mctradepost.api.util.NullnessBridge;
 import com.deathfrog.salvationmod.core.portal.ExteritioPortalManager;
+import com.deathfrog.salvationmod.core.portal.ExteritioPortalRegistry;
 import com.deathfrog.salvationmod.core.portal.ExteritioPortalShape;
 import com.mojang.serialization.MapCodec;
 
@@ -81,6 +82,28 @@ public class ExteritioPortalBlock extends Block implements Portal
             : super.updateShape(state, direction, neighborState, level, pos, neighborPos);
     }
 
+    @Override
+    protected void onPlace(final @Nonnull BlockState state, final @Nonnull Level level, final @Nonnull BlockPos pos, final @Nonnull BlockState oldState, final boolean movedByPiston)
+    {
+        super.onPlace(state, level, pos, oldState, movedByPiston);
+
+        if (level instanceof ServerLevel serverLevel && !oldState.is(this))
+        {
+            ExteritioPortalRegistry.get(serverLevel).add(pos);
+        }
+    }
+
+    @Override
+    protected void onRemove(final @Nonnull BlockState state, final @Nonnull Level level, final @Nonnull BlockPos pos, final @Nonnull BlockState newState, final boolean movedByPiston)
+    {
+        if (level instanceof ServerLevel serverLevel && !newState.is(this))
+        {
+            ExteritioPortalRegistry.get(serverLevel).remove(pos);
+        }
+
+        super.onRemove(state, level, pos, newState, movedByPiston);
+    }
+
     @Override
     protected void entityInside(final @Nonnull BlockState state, final @Nonnull Level level, final @Nonnull BlockPos pos, final @Nonnull Entity entity)
     {
@@ -5,10 +5,12 @@ import java.util.Optional;
 import com.deathfrog.mctradepost.api.util.NullnessBridge;
 import com.deathfrog.salvationmod.ModTags;
 import com.deathfrog.salvationmod.core.portal.ExteritioPortalManager;
+import com.deathfrog.salvationmod.core.portal.ExteritioPortalRegistry;
 import com.deathfrog.salvationmod.core.portal.ExteritioPortalShape;
 import javax.annotation.Nonnull;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import net.minecraft.server.level.ServerLevel;
 import net.minecraft.sounds.SoundEvents;
 import net.minecraft.sounds.SoundSource;
 import net.minecraft.world.InteractionHand;
@@ -35,6 +37,28 @@ public class NeutralizedBlightwoodBlock extends Block
         return true;
     }
 
+    @Override
+    protected void onPlace(final @Nonnull BlockState state, final @Nonnull Level level, final @Nonnull BlockPos pos, final @Nonnull BlockState oldState, final boolean movedByPiston)
+    {
+        super.onPlace(state, level, pos, oldState, movedByPiston);
+
+        if (level instanceof ServerLevel serverLevel && !oldState.is(this))
+        {
+            ExteritioPortalRegistry.get(serverLevel).addFrame(pos);
+        }
+    }
+
+    @Override
+    protected void onRemove(final @Nonnull BlockState state, final @Nonnull Level level, final @Nonnull BlockPos pos, final @Nonnull BlockState newState, final boolean movedByPiston)
+    {
+        if (level instanceof ServerLevel serverLevel && !newState.is(this))
+        {
+            ExteritioPortalRegistry.get(serverLevel).removeFrame(pos);
+        }
+
+        super.onRemove(state, level, pos, newState, movedByPiston);
+    }
+
     @Override
     protected ItemInteractionResult useItemOn(
         final @Nonnull ItemStack stack,
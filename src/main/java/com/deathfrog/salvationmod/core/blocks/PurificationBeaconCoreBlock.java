@@ -1,10 +1,8 @@
 package com.deathfrog.salvationmod.core.blocks;
 
 import javax.annotation.Nonnull;
-import javax.annotation.Nullable;
 
 import com.deathfrog.mctradepost.api.util.NullnessBridge;
-import com.deathfrog.salvationmod.api.tileentities.SalvationTileEntities;
 import com.deathfrog.salvationmod.core.blockentity.PurificationBeaconCoreBlockEntity;
 import com.mojang.serialization.MapCodec;
 
@@ -21,8 +19,6 @@ import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.BaseEntityBlock;
 import net.minecraft.world.level.block.RenderShape;
 import net.minecraft.world.level.block.entity.BlockEntity;
-import net.minecraft.world.level.block.entity.BlockEntityTicker;
-import net.minecraft.world.level.block.entity.BlockEntityType;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.block.state.StateDefinition;
 import net.minecraft.world.level.block.state.properties.BlockStateProperties;
@@ -73,7 +69,8 @@ public class PurificationBeaconCoreBlock extends BaseEntityBlock
     /**
      * Creates a new block entity for this block at the given position and block state.
      * This method is called when the block is first loaded into the world.
-     * The block entity will be responsible for ticking and updating the block's state.
+     * The block entity does not tick; it is woken by the {@link com.deathfrog.salvationmod.core.blockentity.BeaconScheduler}
+     * when it has work due.
      * @param pos the position of the block
      * @param state the block state of the block
      * @return a new block entity for this block
@@ -84,39 +81,6 @@ public class PurificationBeaconCoreBlock extends BaseEntityBlock
         return new PurificationBeaconCoreBlockEntity(pos, state);
     }
 
-    /**
-     * Gets the block entity ticker for the given block state and block entity type.
-     * This method is called on the server, and is used to create a block entity ticker for the given block entity type.
-     * The block entity ticker is responsible for ticking and updating the block entity's state.
-     * <p>
-     * If the level is a client level, this method will return null.
-     * <p>
-     * If the block entity type is not a Purification Beacon Core block entity type, this method will return null.
-     * <p>
-     * Otherwise, this method will return a new block entity ticker for the Purification Beacon Core block entity type.
-     *
-     * @param level the level to get the block entity ticker for
-     * @param state the block state of the block to get the block entity ticker for
-     * @param type the block entity type to get the block entity ticker for
-     * @return the block entity ticker for the given block state and block entity type, or null if the level is a client level or the block entity type is not a Purification Beacon Core block entity type
-     */
-    @Override
-    @Nullable
-    public <T extends BlockEntity> BlockEntityTicker<T> getTicker(
-        @Nonnull Level level,
-        @Nonnull BlockState state,
-        @Nonnull BlockEntityType<T> type)
-    {
-        if (level.isClientSide())
-        {
-            return null;
-        }
-
-        return type == SalvationTileEntities.PURIFICATION_BEACON_CORE.get()
-            ? PurificationBeaconCoreBlockEntity.createTicker()
-            : null;
-    }
-
     @Override
     protected InteractionResult useWithoutItem(final @Nonnull BlockState state,
         final @Nonnull Level level,
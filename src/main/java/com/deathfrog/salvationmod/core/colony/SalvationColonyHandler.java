@@ -17,7 +17,9 @@ import com.deathfrog.salvationmod.Config;
 import com.deathfrog.salvationmod.ModCommands;
 import com.deathfrog.salvationmod.SalvationMod;
 import com.deathfrog.salvationmod.core.apiimp.initializer.ModInteractionInitializer;
+import com.deathfrog.salvationmod.core.blockentity.BeaconCoverageMap;
 import com.deathfrog.salvationmod.core.blockentity.PurificationBeaconCoreBlockEntity;
+import com.deathfrog.salvationmod.core.engine.ChunkColonyCache;
 import com.deathfrog.salvationmod.core.engine.CorruptionStage;
 import com.deathfrog.salvationmod.core.engine.SalvationManager;
 import com.deathfrog.salvationmod.core.engine.SalvationSavedData;
@@ -159,6 +161,8 @@ public class SalvationColonyHandler implements IRecyclingListener
         // LOGGER.info("Running salvation logic for colony: {}", colony.getName());
         // This is the primary location for evaluating colony-specific interactions with the Salvation storyline.
 
+        ChunkColonyCache.refreshColonyResearch(level, colony);
+        BeaconCoverageMap.refreshColonyResearch(level, colony);
         processRecyclers(colony);
         processNotifications(colony);
         processColonySize(colony);
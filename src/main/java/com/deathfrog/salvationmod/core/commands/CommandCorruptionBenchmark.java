@@ -0,0 +1,386 @@
+package com.deathfrog.salvationmod.core.commands;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import org.slf4j.Logger;
+
+import com.deathfrog.mctradepost.core.commands.AbstractCommands;
+import com.deathfrog.salvationmod.core.engine.CorruptionStage;
+import com.deathfrog.salvationmod.core.engine.FurnaceCookLedgerTracker;
+import com.deathfrog.salvationmod.core.engine.SalvationManager;
+import com.deathfrog.salvationmod.core.engine.SalvationSavedData;
+import com.deathfrog.salvationmod.core.engine.SalvationSavedData.ChunkTableFormat;
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.logging.LogUtils;
+
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Direction;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.network.chat.Component;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.block.AbstractFurnaceBlock;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.neoforged.neoforge.event.level.BlockEvent;
+
+/**
+ * In-game micro-benchmarks for the corruption engine hot paths.
+ * Reports average time per call and bytes allocated on the server thread during the measured loop.
+ */
+public class CommandCorruptionBenchmark extends AbstractCommands
+{
+    public static final Logger LOGGER = LogUtils.getLogger();
+
+    private static final int WARMUP_ITERATIONS = 20_000;
+    private static final int MEASURED_ITERATIONS = 200_000;
+
+    private static final int[] CHUNK_TABLE_SIZES = { 10_000, 100_000 };
+    private static final int CHUNK_TABLE_ROUNDS = 5;
+
+    private static final int[] PULSE_BEACON_COUNTS = { 10, 25 };
+    private static final int[] PULSE_RANGE_RESEARCH = { 3, 5 };
+    private static final int PULSE_BEACON_SPACING_CHUNKS = 3;
+
+    // One furnace among this many notifying blocks in the synthetic redstone build.
+    private static final int NOTIFY_FURNACE_RATIO = 64;
+
+    public CommandCorruptionBenchmark(String name)
+    {
+        super(name);
+    }
+
+    @Override
+    public int onExecute(CommandContext<CommandSourceStack> context)
+    {
+        CommandSourceStack source = context.getSource();
+        ServerLevel level = source.getLevel();
+
+        LOGGER.info("Running corruption benchmark command.");
+
+        if (level == null)
+        {
+            return 0;
+        }
+
+        benchmarkStageQuery(source, level);
+        benchmarkChunkTableFormats(source, level);
+        countBeaconPulseMerges(source);
+        benchmarkFurnaceNotifyFilter(source, level);
+
+        return 1;
+    }
+
+    /**
+     * Measures the stage and cycle-ended queries used by spawn checks, loot modifiers and the engine tick.
+     */
+    private static void benchmarkStageQuery(final CommandSourceStack source, final ServerLevel level)
+    {
+        int sink = 0;
+
+        for (int i = 0; i < WARMUP_ITERATIONS; i++)
+        {
+            sink += stageQuery(level);
+        }
+
+        final long bytesBefore = allocatedBytes();
+        final long start = System.nanoTime();
+
+        for (int i = 0; i < MEASURED_ITERATIONS; i++)
+        {
+            sink += stageQuery(level);
+        }
+
+        final long elapsed = System.nanoTime() - start;
+        final long allocated = allocatedBytes() - bytesBefore;
+
+        report(source, "stageForLevel + isCorruptionCycleEnded", elapsed, allocated, sink);
+    }
+
+    private static int stageQuery(final ServerLevel level)
+    {
+        final CorruptionStage stage = SalvationManager.stageForLevel(level);
+        return stage.ordinal() + (SalvationManager.isCorruptionCycleEnded(level) ? 1 : 0);
+    }
+
+    /**
+     * Compares the legacy per-chunk list and the columnar chunk table: encode time, decode time,
+     * and serialized size (raw and gzip-compressed, as written to the level's .dat file).
+     * Runs against a synthetic, detached saved data instance so the live world is untouched.
+     */
+    private static void benchmarkChunkTableFormats(final CommandSourceStack source, final ServerLevel level)
+    {
+        for (final int size : CHUNK_TABLE_SIZES)
+        {
+            final SalvationSavedData data = syntheticChunkTable(size, level.getGameTime());
+
+            for (final ChunkTableFormat format : ChunkTableFormat.values())
+            {
+                if (format == null) continue;
+
+                CompoundTag tag = new CompoundTag();
+                long encodeNanos = 0L;
+                long decodeNanos = 0L;
+                int sink = 0;
+
+                for (int round = 0; round <= CHUNK_TABLE_ROUNDS; round++)
+                {
+                    final CompoundTag roundTag = new CompoundTag();
+                    final long encodeStart = System.nanoTime();
+                    data.writeChunkTable(roundTag, format);
+                    final long encoded = System.nanoTime() - encodeStart;
+
+                    final SalvationSavedData copy = new SalvationSavedData();
+                    final long decodeStart = System.nanoTime();
+                    copy.readChunkTable(roundTag);
+                    final long decoded = System.nanoTime() - decodeStart;
+
+                    sink += copy.getCorruptedChunkCount();
+                    tag = roundTag;
+
+                    // Round 0 is warmup.
+                    if (round > 0)
+                    {
+                        encodeNanos += encoded;
+                        decodeNanos += decoded;
+                    }
+                }
+
+                final long rawBytes = serializedSize(tag, false);
+                final long compressedBytes = serializedSize(tag, true);
+
+                final String message = String.format(Locale.ROOT,
+                    "chunk table %s @ %d chunks: encode %.2f ms, decode %.2f ms, %d bytes raw, %d bytes compressed (checksum %d)",
+                    format.name(), size,
+                    encodeNanos / (CHUNK_TABLE_ROUNDS * 1_000_000.0D),
+                    decodeNanos / (CHUNK_TABLE_ROUNDS * 1_000_000.0D),
+                    rawBytes, compressedBytes, sink);
+
+                LOGGER.info(message);
+                source.sendSuccess(() -> Component.literal(message), false);
+            }
+        }
+    }
+
+    /**
+     * Builds a detached saved data instance with a square patch of corrupted chunks and plausible timestamps.
+     */
+    private static SalvationSavedData syntheticChunkTable(final int size, final long gameTime)
+    {
+        final SalvationSavedData data = new SalvationSavedData();
+        final Random random = new Random(size);
+        final int side = (int) Math.ceil(Math.sqrt(size));
+        final long now = Math.max(gameTime, 1_000_000L);
+
+        for (int i = 0; i < size; i++)
+        {
+            final long chunkKey = ChunkPos.asLong((i % side) - side / 2, (i / side) - side / 2);
+            data.setChunkCorruption(chunkKey, 1 + random.nextInt(1000), now - random.nextInt(240_000));
+
+            if (random.nextInt(8) == 0)
+            {
+                data.markMutatedCorruptedBiomeChunk(chunkKey);
+            }
+        }
+
+        return data;
+    }
+
+    /**
+     * Counts the chunk applications beacons pulsing together (e.g. after a server restart or shared research change) need
+     * when each pulse applies every chunk directly versus when overlapping pulses are merged per chunk.
+     * Beacons are laid out on a square grid {@link #PULSE_BEACON_SPACING_CHUNKS} chunks apart, a dense colony layout.
+     * This is a count, not a timing of the two apply paths: applying pulses would purify the live world, so only the
+     * per-chunk merge itself is timed.
+     */
+    private static void countBeaconPulseMerges(final CommandSourceStack source)
+    {
+        for (final int beacons : PULSE_BEACON_COUNTS)
+        {
+            for (final int rangeResearch : PULSE_RANGE_RESEARCH)
+            {
+                final int radius = 1 + rangeResearch;
+                final int side = (int) Math.ceil(Math.sqrt(beacons));
+                final int directApplications = beacons * (2 * radius + 1) * (2 * radius + 1);
+
+                final Long2IntOpenHashMap merged = new Long2IntOpenHashMap();
+                long mergeNanos = 0L;
+
+                for (int round = 0; round <= CHUNK_TABLE_ROUNDS; round++)
+                {
+                    merged.clear();
+                    final long start = System.nanoTime();
+
+                    for (int b = 0; b < beacons; b++)
+                    {
+                        final int originX = (b % side) * PULSE_BEACON_SPACING_CHUNKS;
+                        final int originZ = (b / side) * PULSE_BEACON_SPACING_CHUNKS;
+
+                        for (int dx = -radius; dx <= radius; dx++)
+                        {
+                            for (int dz = -radius; dz <= radius; dz++)
+                            {
+                                merged.addTo(ChunkPos.asLong(originX + dx, originZ + dz), 1);
+                            }
+                        }
+                    }
+
+                    // Round 0 is warmup.
+                    if (round > 0)
+                    {
+                        mergeNanos += System.nanoTime() - start;
+                    }
+                }
+
+                final int mergedApplications = merged.size();
+                final String message = String.format(Locale.ROOT,
+                    "beacon pulses: %d beacons @ range %d: %d chunk applications and %d progression/stage/history updates direct; "
+                        + "%d chunk applications and 1 progression update merged (%.1fx fewer); merge %.3f ms (applies not timed)",
+                    beacons, rangeResearch, directApplications, directApplications, mergedApplications,
+                    directApplications / (double) Math.max(1, mergedApplications),
+                    mergeNanos / (CHUNK_TABLE_ROUNDS * 1_000_000.0D));
+
+                LOGGER.info(message);
+                source.sendSuccess(() -> Component.literal(message), false);
+            }
+        }
+    }
+
+    /**
+     * Replays the neighbor notifications of a redstone-heavy build through the furnace tracker's NeighborNotify handler,
+     * once with the tracker enabled and once disabled. Events are built per call, as the game does; the handler is invoked
+     * directly rather than posted, so other mods' listeners never see the synthetic notifications.
+     * The notifying states are every state of redstone wire, repeaters, comparators, pistons, observers and lamps,
+     * with a lit furnace mixed in at one in {@link #NOTIFY_FURNACE_RATIO}. Positions are taken from the already loaded
+     * chunk around the command source, so no chunks are loaded; the benchmark furnaces have no block entity and are
+     * never tracked.
+     */
+    private static void benchmarkFurnaceNotifyFilter(final CommandSourceStack source, final ServerLevel level)
+    {
+        final List<BlockState> build = new ArrayList<>();
+        for (final Block block : new Block[] {
+            Blocks.REDSTONE_WIRE, Blocks.REPEATER, Blocks.COMPARATOR, Blocks.PISTON, Blocks.STICKY_PISTON,
+            Blocks.PISTON_HEAD, Blocks.MOVING_PISTON, Blocks.OBSERVER, Blocks.REDSTONE_LAMP, Blocks.REDSTONE_TORCH })
+        {
+            build.addAll(block.getStateDefinition().getPossibleStates());
+        }
+
+        final BlockState furnace = Blocks.FURNACE.defaultBlockState().setValue(AbstractFurnaceBlock.LIT, true);
+        final BlockPos origin = BlockPos.containing(source.getPosition());
+        final int topY = level.getMaxBuildHeight() - 1;
+        final Random random = new Random(0x5A1L);
+
+        final BlockState[] states = new BlockState[1024];
+        final BlockPos[] positions = new BlockPos[states.length];
+        for (int i = 0; i < states.length; i++)
+        {
+            states[i] = (i % NOTIFY_FURNACE_RATIO == 0) ? furnace : build.get(random.nextInt(build.size()));
+            // Sky-limit positions in the source's chunk: loaded, and never an actual furnace.
+            positions[i] = new BlockPos((origin.getX() & ~15) + random.nextInt(16), topY, (origin.getZ() & ~15) + random.nextInt(16));
+        }
+
+        final EnumSet<Direction> sides = EnumSet.allOf(Direction.class);
+        final boolean wasEnabled = FurnaceCookLedgerTracker.setEnabled(true);
+
+        try
+        {
+            for (final boolean trackerEnabled : new boolean[] { false, true })
+            {
+                FurnaceCookLedgerTracker.setEnabled(trackerEnabled);
+
+                int sink = 0;
+                long bytesBefore = 0L;
+                long start = 0L;
+
+                for (int i = 0; i < WARMUP_ITERATIONS + MEASURED_ITERATIONS; i++)
+                {
+                    if (i == WARMUP_ITERATIONS)
+                    {
+                        bytesBefore = allocatedBytes();
+                        start = System.nanoTime();
+                    }
+
+                    final int n = i & (states.length - 1);
+                    final BlockEvent.NeighborNotifyEvent event = new BlockEvent.NeighborNotifyEvent(level, positions[n], states[n], sides, false);
+                    FurnaceCookLedgerTracker.onNeighborNotify(event);
+                    sink += event.isCanceled() ? 1 : 0;
+                }
+
+                final long elapsed = System.nanoTime() - start;
+                final long allocated = bytesBefore < 0 ? -1L : allocatedBytes() - bytesBefore;
+
+                report(source, trackerEnabled ? "redstone neighbor notify (furnace tracker enabled)" : "redstone neighbor notify (furnace tracker disabled)",
+                    elapsed, allocated, sink);
+            }
+        }
+        finally
+        {
+            FurnaceCookLedgerTracker.setEnabled(wasEnabled);
+        }
+    }
+
+    /**
+     * @return the number of bytes the tag serializes to, or -1 if serialization failed
+     */
+    private static long serializedSize(final CompoundTag tag, final boolean compressed)
+    {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try
+        {
+            if (compressed)
+            {
+                NbtIo.writeCompressed(tag, bytes);
+            }
+            else
+            {
+                NbtIo.write(tag, new DataOutputStream(bytes));
+            }
+        }
+        catch (IOException e)
+        {
+            LOGGER.warn("Unable to serialize chunk table for benchmark.", e);
+            return -1L;
+        }
+
+        return bytes.size();
+    }
+
+    private static void report(final CommandSourceStack source, final String name, final long elapsedNanos, final long allocatedBytes, final int sink)
+    {
+        final String allocation = allocatedBytes < 0 ? "n/a" : allocatedBytes + " bytes";
+        final String message = String.format(Locale.ROOT, "%s: %.1f ns/call over %d calls; allocated %s (checksum %d)",
+            name, elapsedNanos / (double) MEASURED_ITERATIONS, MEASURED_ITERATIONS, allocation, sink);
+
+        LOGGER.info(message);
+        source.sendSuccess(() -> Component.literal(message), false);
+    }
+
+    /**
+     * @return bytes allocated so far by the current thread, or -1 if the JVM does not expose it
+     */
+    private static long allocatedBytes()
+    {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threadBean
+            && threadBean.isThreadAllocatedMemorySupported()
+            && threadBean.isThreadAllocatedMemoryEnabled())
+        {
+            return threadBean.getCurrentThreadAllocatedBytes();
+        }
+
+        return -1L;
+    }
+}
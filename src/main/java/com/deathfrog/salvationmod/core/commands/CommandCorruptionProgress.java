@@ -79,6 +79,10 @@ public class CommandCorruptionProgress extends AbstractCommands
         source.sendSuccess(() -> Component.literal("Local chunk corruption at " + pos.toShortString() + ": " + local), false);
         source.sendSuccess(() -> Component.literal("Local chunk biome mutated: " + SalvationSavedData.get(serverLevel).hasMutatedCorruptedBiomeChunk(player.chunkPosition().toLong())), false);
 
+        ChunkCorruptionSystem.DecayPassMetrics decay = ChunkCorruptionSystem.decayPassMetrics(serverLevel);
+        source.sendSuccess(() -> Component.literal(String.format(Locale.ROOT, "Decay pass: %d chunks over %d ticks, %.3f ms total, last slice %.3f ms",
+            decay.chunksPerPass(), decay.ticksPerPass(), decay.lastPassNanos() / 1_000_000.0D, decay.lastSliceNanos() / 1_000_000.0D)), false);
+
         IColony colony = IColonyManager.getInstance().getColonyByPosFromWorld(player.level(), pos);
 
         if (colony != null)
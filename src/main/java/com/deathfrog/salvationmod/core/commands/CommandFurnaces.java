@@ -0,0 +1,88 @@
+package com.deathfrog.salvationmod.core.commands;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+import org.slf4j.Logger;
+
+import com.deathfrog.mctradepost.core.commands.AbstractCommands;
+import com.deathfrog.salvationmod.core.engine.FurnaceCookLedgerTracker;
+import com.deathfrog.salvationmod.core.engine.FurnaceCookLedgerTracker.FurnaceStats;
+import com.mojang.brigadier.context.CommandContext;
+import com.mojang.logging.LogUtils;
+
+import net.minecraft.commands.CommandSourceStack;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.network.chat.Component;
+import net.minecraft.server.level.ServerLevel;
+
+/**
+ * Lists the furnaces currently tracked in the level with their throughput and the corruption attributed to them.
+ */
+public class CommandFurnaces extends AbstractCommands
+{
+    public static final Logger LOGGER = LogUtils.getLogger();
+
+    private static final int MAX_LISTED = 20;
+
+    public CommandFurnaces(final String name)
+    {
+        super(name);
+    }
+
+    @SuppressWarnings("null")
+    @Override
+    public int onExecute(final CommandContext<CommandSourceStack> context)
+    {
+        final CommandSourceStack source = context.getSource();
+        final ServerLevel level = source.getLevel();
+
+        LOGGER.info("Running furnaces command.");
+
+        if (level == null)
+        {
+            source.sendFailure(Component.literal("This command must be run in a world."));
+            return 0;
+        }
+
+        final List<FurnaceStats> stats = new ArrayList<>(FurnaceCookLedgerTracker.stats(level));
+
+        if (stats.isEmpty())
+        {
+            source.sendSuccess(() -> Component.literal("No furnaces are currently tracked in this level."), false);
+            return 1;
+        }
+
+        stats.sort(Comparator.comparingInt(FurnaceStats::produced).reversed());
+
+        source.sendSuccess(() -> Component.literal("Tracked furnaces (" + stats.size() + ", busiest " + Math.min(MAX_LISTED, stats.size()) + " shown):"), false);
+
+        for (int i = 0; i < stats.size() && i < MAX_LISTED; i++)
+        {
+            final String line = formatEntry(level, stats.get(i));
+            source.sendSuccess(() -> Component.literal(line), false);
+        }
+
+        return 1;
+    }
+
+    private static String formatEntry(final ServerLevel level, final FurnaceStats entry)
+    {
+        final double minutes = Math.max(1L, entry.trackedTicks()) / 1200.0D;
+        final String block = BuiltInRegistries.BLOCK.getKey(level.getBlockState(entry.pos()).getBlock()).toString();
+
+        return String.format(Locale.ROOT,
+            "%s %s: %d crafts, %d produced (%.1f/min), %d extracted, %d fuel points, corruption %+d over %.1f min",
+            entry.pos().toShortString(),
+            block,
+            entry.crafts(),
+            entry.produced(),
+            entry.produced() / minutes,
+            entry.extracted(),
+            entry.fuelPoints(),
+            entry.corruption(),
+            minutes);
+    }
+}
@@ -1,6 +1,6 @@
 package com.deathfrog.salvationmod.core.engine;
 
-import java.util.Iterator;
+import java.util.Arrays;
 import java.util.List;
 
 import javax.annotation.Nonnull;
@@ -12,10 +12,16 @@ import com.deathfrog.salvationmod.ModBlocks;
 import com.deathfrog.salvationmod.ModCommands;
 import com.mojang.logging.LogUtils;
 
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
-import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongHeapPriorityQueue;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.HolderLookup.Provider;
+import net.minecraft.nbt.ByteArrayTag;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.LongArrayTag;
@@ -28,6 +34,8 @@ import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.Blocks;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
 import net.minecraft.world.level.levelgen.Heightmap;
 import com.deathfrog.salvationmod.core.engine.SalvationSavedData.ProgressionSource;
 
@@ -67,6 +75,9 @@ public final class BlightSurfaceSystem
     /** Hard cap: total revert attempts per tick (per level). */
     private static final int MAX_REVERT_ATTEMPTS_PER_TICK = 24;
 
+    /** Hard cap: blighted chunks the revert cursor classifies per tick (per level). */
+    private static final int MAX_REVERT_SCAN_PER_TICK = 64;
+
     /**
      * Hysteresis thresholds to avoid flicker:
      * - Apply when normalized chunk corruption >= APPLY_THRESHOLD
@@ -84,6 +95,15 @@ public final class BlightSurfaceSystem
     /** A tiny minimum chance once above APPLY_THRESHOLD (keeps it from feeling "stuck"). */
     private static final float MIN_CHANCE_ABOVE_THRESHOLD = 0.02f;
 
+    /** Hard cap: blocks blighted by one successful chunk probe. Scaled by stage and corruption curve. */
+    private static final int MAX_BLIGHT_BATCH = 4;
+
+    /** Batch size gained per unit of (stageScalar * curve). */
+    private static final float BLIGHT_BATCH_DENSITY = 2.0f;
+
+    /** Columns examined per block wanted in a batch, before giving up on the chunk. */
+    private static final int BATCH_PROBES_PER_BLOCK = 4;
+
     // -------------------------
     // Public entry point
     // -------------------------
@@ -168,17 +188,21 @@ public final class BlightSurfaceSystem
             for (int cz = origin.z - radius; cz <= origin.z + radius && remaining > 0; cz++)
             {
                 final long chunkKey = ChunkPos.asLong(cx, cz);
-                final LongArrayList positions = data.blightedByChunk.get(chunkKey);
+                final ChunkBlight blight = data.chunk(chunkKey);
 
-                if (positions == null || positions.isEmpty())
+                if (blight == null || blight.size() == 0)
                 {
                     continue;
                 }
 
-                while (!positions.isEmpty() && remaining > 0)
+                int revertedInChunk = 0;
+                BlockPos lastReverted = null;
+
+                while (blight.size() > 0 && remaining > 0)
                 {
-                    final int idx = rand.nextInt(positions.size());
-                    final BlockPos pos = BlockPos.of(positions.removeLong(idx));
+                    final int column = blight.select(rand.nextInt(blight.size()));
+                    final BlockPos pos = blight.posAt(chunkKey, column);
+                    blight.remove(column);
 
                     if (!level.hasChunk(pos.getX() >> 4, pos.getZ() >> 4))
                     {
@@ -188,15 +212,23 @@ public final class BlightSurfaceSystem
                     if (level.getBlockState(pos).is(blightBlock))
                     {
                         level.setBlock(pos, NullnessBridge.assumeNonnull(Blocks.GRASS_BLOCK.defaultBlockState()), Block.UPDATE_CLIENTS);
-                        SalvationManager.recordCorruption(level, ProgressionSource.EXTRACTION, pos, -1);
-                        reverted++;
+                        lastReverted = pos;
+                        revertedInChunk++;
                         remaining--;
                     }
                 }
 
-                if (positions.isEmpty())
+                // One extraction event per chunk per pulse, rather than one per reverted block.
+                if (lastReverted != null)
                 {
-                    data.blightedByChunk.remove(chunkKey);
+                    SalvationManager.recordCorruption(level, ProgressionSource.EXTRACTION, lastReverted, -revertedInChunk,
+                        SalvationManager.MAX_AGGREGATED_EFFECT_MAGNITUDE);
+                    reverted += revertedInChunk;
+                }
+
+                if (blight.size() == 0)
+                {
+                    data.removeChunk(chunkKey);
                 }
             }
         }
@@ -238,6 +270,7 @@ public final class BlightSurfaceSystem
 
         // How many chunk picks per player per tick (still bounded by global budget).
         final int chunkPicksPerPlayer = Mth.clamp(1 + (int)Math.floor(stageScalar * 2.0f), 1, 4);
+        final long cooldown = stage.getBlightCooldown();
 
         for (final ServerPlayer player : players)
         {
@@ -264,8 +297,6 @@ public final class BlightSurfaceSystem
                 // Cap density in this chunk.
                 final long ckey = ChunkPos.asLong(cx, cz);
 
-                final long cooldown = stage.getBlightCooldown();
-
                 long lastPurificationEvent = salvationData.getLastPurificationEvent(ckey);
                 long lastCorruptionEvent = salvationData.getLastCorruptionEvent(ckey);
 
@@ -311,13 +342,15 @@ public final class BlightSurfaceSystem
 
                 if (roll >= finalChance) continue;
 
-                BlockPos blightSpot = tryBlightOneSurfaceSpot(level, data, cx, cz, blightBlock, rand);
+                // A successful probe blights a small batch of columns in one pass; denser in later stages and hotter chunks.
+                final int batch = Mth.clamp(1 + (int) Math.floor(stageScalar * curve * BLIGHT_BATCH_DENSITY), 1, MAX_BLIGHT_BATCH);
+                final int blighted = blightSurfaceBatch(level, data, cx, cz, blightBlock, rand, batch);
 
-                if (blightSpot != null)
+                if (blighted > 0)
                 {
-                    TraceUtils.dynamicTrace(ModCommands.TRACE_BLIGHT, () -> LOGGER.info("Blighting {}", blightSpot));
+                    TraceUtils.dynamicTrace(ModCommands.TRACE_BLIGHT, () -> LOGGER.info("Blighted {} of {} surface spots in chunk {} {}", blighted, batch, cx, cz));
 
-                    applied++;
+                    applied += blighted;
                     if (attemptsRemaining <= 0) break;
                 }
                 else
@@ -331,7 +364,11 @@ public final class BlightSurfaceSystem
     }
 
     /**
-     * Try to blight a single surface spot in the given chunk.
+     * Blights up to maxBlocks exposed grass columns of one chunk in a single pass.
+     * The chunk is fetched once; surface heights come from its heightmap and block states straight from its sections.
+     * Columns are visited in a random odd-stride permutation so picks spread across the chunk.
+     * Block changes skip neighbor shape updates (grass to blight under open air changes no neighbor's shape); the chunk
+     * holder coalesces a section's changes into one client packet at the end of the tick.
      *
      * @param level the level to blight in
      * @param data the blight saved data for the level
@@ -339,49 +376,90 @@ public final class BlightSurfaceSystem
      * @param cz the z-coordinate of the chunk
      * @param blightBlock the block to blight with
      * @param rand a random source
+     * @param maxBlocks the most blocks to blight
      *
-     * @return true if a blight was successfully applied, false otherwise
+     * @return the number of blocks blighted
      */
-    private static BlockPos tryBlightOneSurfaceSpot(
+    private static int blightSurfaceBatch(
         @Nonnull final ServerLevel level,
         @Nonnull final BlightSavedData data,
         final int cx,
         final int cz,
         @Nonnull final Block blightBlock,
-        @Nonnull final RandomSource rand)
+        @Nonnull final RandomSource rand,
+        final int maxBlocks)
     {
-        final int x = (cx << 4) + rand.nextInt(16);
-        final int z = (cz << 4) + rand.nextInt(16);
+        final LevelChunk chunk = level.getChunkSource().getChunkNow(cx, cz);
+        if (chunk == null) return 0;
 
-        // Heightmap returns the first air block above the surface; surface block is y-1.
-        final int y = level.getHeight(Heightmap.Types.MOTION_BLOCKING_NO_LEAVES, x, z) - 1;
-        if (y <= level.getMinBuildHeight()) return null;
+        final BlockState defaultBlockState = blightBlock.defaultBlockState();
+        if (defaultBlockState == null) return 0;
 
-        final BlockPos pos = new BlockPos(x, y, z);
+        // Record + replace, never beyond the per-chunk cap.
+        final int target = Math.min(maxBlocks, MAX_BLIGHTED_PER_CHUNK - data.countInChunk(ChunkPos.asLong(cx, cz)));
+        if (target <= 0) return 0;
 
-        // Only replace vanilla grass_block (keep it conservative and reversible).
-        if (!level.getBlockState(pos).is(NullnessBridge.assumeNonnull(Blocks.GRASS_BLOCK))) return null;
+        final int minY = level.getMinBuildHeight();
+        final int probes = Math.min(256, target * BATCH_PROBES_PER_BLOCK);
+        final int start = rand.nextInt(256);
+        final int stride = (rand.nextInt(128) << 1) | 1;
+        int blighted = 0;
 
-        // Prefer "exposed" grass (looks better; avoids converting under foliage).
-        if (!level.getBlockState(NullnessBridge.assumeNonnull(pos.above())).isAir()) return null;
+        for (int i = 0; i < probes && blighted < target; i++)
+        {
+            final int column = (start + i * stride) & 255;
+            final int lx = column & 15;
+            final int lz = column >>> 4;
+
+            // Chunk heightmaps store the surface block itself (the level query returns the air above it).
+            final int y = chunk.getHeight(Heightmap.Types.MOTION_BLOCKING_NO_LEAVES, lx, lz);
+            if (y <= minY) continue;
 
-        // Record + replace.
-        final long ckey = ChunkPos.asLong(cx, cz);
-        if (data.countInChunk(ckey) >= MAX_BLIGHTED_PER_CHUNK) return null;
+            // Only replace vanilla grass_block (keep it conservative and reversible).
+            if (!sectionState(chunk, lx, y, lz).is(NullnessBridge.assumeNonnull(Blocks.GRASS_BLOCK))) continue;
 
-        BlockState defaultBlockState = blightBlock.defaultBlockState();
+            // Prefer "exposed" grass (looks better; avoids converting under foliage).
+            if (!sectionState(chunk, lx, y + 1, lz).isAir()) continue;
 
-        if (defaultBlockState == null) return null;
+            final BlockPos pos = new BlockPos((cx << 4) | lx, y, (cz << 4) | lz);
+            level.setBlock(pos, defaultBlockState, Block.UPDATE_CLIENTS | Block.UPDATE_KNOWN_SHAPE);
+            data.add(pos);
+            blighted++;
+        }
 
-        level.setBlock(pos, defaultBlockState, Block.UPDATE_CLIENTS);
-        data.add(ckey, pos.asLong());
-        return pos;
+        return blighted;
+    }
+
+    /**
+     * Reads a block state straight from the chunk section; positions above the top section read as air.
+     */
+    private static BlockState sectionState(@Nonnull final LevelChunk chunk, final int lx, final int y, final int lz)
+    {
+        final int index = chunk.getSectionIndex(y);
+        if (index < 0 || index >= chunk.getSectionsCount())
+        {
+            return Blocks.AIR.defaultBlockState();
+        }
+
+        final LevelChunkSection section = chunk.getSection(index);
+        return section.hasOnlyAir() ? Blocks.AIR.defaultBlockState() : section.getBlockState(lx, y & 15, lz);
     }
 
     // -------------------------
     // Revert logic
     // -------------------------
 
+    /**
+     * Budgeted revert pass over chunks in their revert window.
+     *
+     * Work per tick is bounded independently of how many chunks carry blight:
+     *  - chunks whose window opens later wait in a heap keyed by the opening time and are promoted when it passes;
+     *  - blighted chunks that received a purification event since the last pass ({@link #onPurificationEvent}) are
+     *    scheduled straight away, so their window is never missed waiting for the cursor;
+     *  - a persistent rotating cursor classifies at most MAX_REVERT_SCAN_PER_TICK blighted chunks per tick, as a
+     *    backstop for purification events recorded without a purifying action (e.g. decay);
+     *  - eligible chunks are served round-robin: a chunk that still has blight after its probes goes to the back.
+     */
     private static int revertStep(
         @Nonnull final ServerLevel level,
         @Nonnull final BlightSavedData data,
@@ -399,37 +477,69 @@ public final class BlightSurfaceSystem
         // Reversion gets more aggressive if stage is lower (or purification is happening).
         // But we still keep it budgeted.
         final float stageScalar = stageRevertScalar(stage);
+        final long cooldown = stage.getBlightCooldown();
+        final RevertSchedule schedule = data.revertSchedule();
+
+        // 1) Promote chunks whose revert window has opened.
+        while (!schedule.pending.isEmpty() && schedule.pendingStart.get(schedule.pending.firstLong()) <= gameTime)
+        {
+            final long ckey = schedule.pending.dequeueLong();
+            schedule.pendingStart.remove(ckey);
+            schedule.scheduled.remove(ckey);
+            scheduleRevert(schedule, ckey, revertWindowStart(salvationData, ckey, cooldown, gameTime), gameTime);
+        }
+
+        // 2) Schedule blighted chunks purified since the last pass.
+        while (!schedule.purified.isEmpty())
+        {
+            final long ckey = schedule.purified.dequeueLong();
+            schedule.purifiedQueued.remove(ckey);
 
-        // Iterate chunks we *know* have blight.
+            if (data.countInChunk(ckey) > 0 && !schedule.scheduled.contains(ckey))
+            {
+                scheduleRevert(schedule, ckey, revertWindowStart(salvationData, ckey, cooldown, gameTime), gameTime);
+            }
+        }
+
+        // 3) Advance the rotating cursor over chunks we *know* have blight (backstop).
         // We do not scan world/chunks; we only touch our recorded set.
-        final Iterator<Long2ObjectOpenHashMap.Entry<LongArrayList>> it = data.chunkEntriesIterator();
-        while (it.hasNext() && remaining > 0)
+        for (int i = 0; i < MAX_REVERT_SCAN_PER_TICK && !schedule.rotation.isEmpty(); i++)
         {
-            final Long2ObjectOpenHashMap.Entry<LongArrayList> e = it.next();
-            final long ckey = e.getLongKey();
-            final LongArrayList positions = e.getValue();
-            if (positions == null || positions.isEmpty())
+            final long ckey = schedule.rotation.dequeueLong();
+            if (data.countInChunk(ckey) == 0)
             {
-                it.remove();
+                schedule.inRotation.remove(ckey);
                 continue;
             }
 
-            final int cx = ChunkPos.getX(ckey);
-            final int cz = ChunkPos.getZ(ckey);
+            schedule.rotation.enqueue(ckey);
 
-            final long cooldown = stage.getBlightCooldown();
+            if (!schedule.scheduled.contains(ckey))
+            {
+                scheduleRevert(schedule, ckey, revertWindowStart(salvationData, ckey, cooldown, gameTime), gameTime);
+            }
+        }
 
-            final long lastC = salvationData.getLastCorruptionEvent(ckey);
-            final long lastP = salvationData.getLastPurificationEvent(ckey);
+        // 4) Serve eligible chunks round-robin, each at most once per tick.
+        int visits = schedule.eligible.size();
+        while (visits-- > 0 && remaining > 0)
+        {
+            final long ckey = schedule.eligible.dequeueLong();
+            schedule.scheduled.remove(ckey);
 
-            // Must have a purification event that is the most recent event.
-            if (lastP <= 0L || lastP <= lastC) continue;
+            final ChunkBlight blight = data.chunk(ckey);
+            if (blight == null || blight.size() == 0) continue;
 
-            // Only allow clearing during [lastP, lastP + cooldown].
-            if (gameTime > lastP + cooldown) continue;
+            // Events may have moved since the chunk was queued.
+            final long windowStart = revertWindowStart(salvationData, ckey, cooldown, gameTime);
+            if (windowStart < 0L || windowStart > gameTime)
+            {
+                scheduleRevert(schedule, ckey, windowStart, gameTime);
+                continue;
+            }
 
-            // Blight cannot clear if corruption was recent
-            if (gameTime < lastC + cooldown) continue;
+            final int cx = ChunkPos.getX(ckey);
+            final int cz = ChunkPos.getZ(ckey);
 
             // Only actively revert when corruption is sufficiently low OR stage scalar is pushing reversion.
             final float norm = getChunkCorruptionNorm(level, cx, cz);
@@ -446,12 +556,11 @@ public final class BlightSurfaceSystem
 
             for (int k = 0; k < maxChunkReverts && remaining > 0; k++)
             {
-                if (positions.isEmpty()) break;
+                if (blight.size() == 0) break;
 
                 // Pick a random recorded position in this chunk.
-                final int idx = rand.nextInt(positions.size());
-                final long posLong = positions.getLong(idx);
-                final BlockPos pos = BlockPos.of(posLong);
+                final int column = blight.select(rand.nextInt(blight.size()));
+                final BlockPos pos = blight.posAt(ckey, column);
 
                 // If chunk not loaded, skip without removing (we’ll try later).
                 if (!level.hasChunk(pos.getX() >> 4, pos.getZ() >> 4)) break;
@@ -468,20 +577,77 @@ public final class BlightSurfaceSystem
                 }
 
                 // Remove from list either way to prevent “stale memory”.
-                positions.removeLong(idx);
+                blight.remove(column);
                 remaining--;
             }
 
-            // Clean up emptied chunk list.
-            if (positions.isEmpty())
+            // Clean up emptied chunk list; otherwise back of the queue.
+            if (blight.size() == 0)
             {
-                it.remove();
+                data.removeChunk(ckey);
+            }
+            else
+            {
+                schedule.eligible.enqueue(ckey);
+                schedule.scheduled.add(ckey);
             }
         }
 
         return reverted;
     }
 
+    /**
+     * Called when a purification event is recorded on a chunk. A chunk carrying blight is queued for the next revert pass,
+     * which opens (or schedules) its revert window without waiting for the rotating cursor.
+     */
+    static void onPurificationEvent(@Nonnull final ServerLevel level, final long chunkKey)
+    {
+        final BlightSavedData data = BlightSavedData.get(level);
+        if (data == null || data.countInChunk(chunkKey) == 0) return;
+
+        data.revertSchedule().notePurified(chunkKey);
+    }
+
+    /**
+     * Returns when the chunk's revert window opens. The window is [lastCorruption + cooldown, lastPurification + cooldown]
+     * and only exists while a purification event is the chunk's most recent event.
+     *
+     * @return the opening game time (may be in the past), or -1 if the chunk has no open or upcoming window
+     */
+    private static long revertWindowStart(@Nonnull final SalvationSavedData salvationData, final long ckey, final long cooldown, final long gameTime)
+    {
+        final long lastC = salvationData.getLastCorruptionEvent(ckey);
+        final long lastP = salvationData.getLastPurificationEvent(ckey);
+
+        // Must have a purification event that is the most recent event.
+        if (lastP <= 0L || lastP <= lastC) return -1L;
+
+        // Only allow clearing during [lastP, lastP + cooldown].
+        if (gameTime > lastP + cooldown) return -1L;
+
+        // Blight cannot clear if corruption was recent
+        return lastC + cooldown;
+    }
+
+    /**
+     * Queues a chunk as eligible now, or in the pending heap until its window opens; chunks without a window are left
+     * to the rotating cursor.
+     */
+    private static void scheduleRevert(@Nonnull final RevertSchedule schedule, final long ckey, final long windowStart, final long gameTime)
+    {
+        if (windowStart < 0L || !schedule.scheduled.add(ckey)) return;
+
+        if (windowStart <= gameTime)
+        {
+            schedule.eligible.enqueue(ckey);
+        }
+        else
+        {
+            schedule.pendingStart.put(ckey, windowStart);
+            schedule.pending.enqueue(ckey);
+        }
+    }
+
     // -------------------------
     // Helpers
     // -------------------------
@@ -557,7 +723,7 @@ public final class BlightSurfaceSystem
 
     /**
      * Stores only what we changed, keyed by chunk:
-     * chunkKey -> list(posLong)
+     * chunkKey -> blighted surface columns of that chunk
      *
      * This makes reversion cheap and avoids scanning chunks.
      */
@@ -565,8 +731,17 @@ public final class BlightSurfaceSystem
     {
         private static final String DATA_NAME = "salvation_blight_surface";
 
-        // chunkKey -> positions (as longs)
-        private final Long2ObjectOpenHashMap<LongArrayList> blightedByChunk = new Long2ObjectOpenHashMap<>();
+        private static final String TAG_COLUMNS = "columns";
+        private static final String TAG_COLUMN_KEYS = "keys";
+        private static final String TAG_COLUMN_MASKS = "masks";
+        private static final String TAG_COLUMN_HEIGHTS = "heights";
+        private static final String TAG_LEGACY_CHUNKS = "chunks";
+
+        // chunkKey -> blighted columns
+        private final Long2ObjectOpenHashMap<ChunkBlight> blightedByChunk = new Long2ObjectOpenHashMap<>();
+
+        // Transient revert cursor and queues; rebuilt from the recorded chunks after load.
+        private final RevertSchedule revertSchedule = new RevertSchedule();
 
         public static BlightSavedData get(@Nonnull final ServerLevel level)
         {
@@ -589,28 +764,87 @@ public final class BlightSurfaceSystem
          */
         public int countInChunk(final long chunkKey)
         {
-            final LongArrayList list = blightedByChunk.get(chunkKey);
-            return (list == null) ? 0 : list.size();
+            final ChunkBlight blight = blightedByChunk.get(chunkKey);
+            return (blight == null) ? 0 : blight.size();
         }
 
-        public void add(final long chunkKey, final long posLong)
+        /**
+         * Records a blighted surface block. A column holds at most one position; re-adding a column updates its Y.
+         */
+        public void add(@Nonnull final BlockPos pos)
+        {
+            final long chunkKey = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+            ChunkBlight blight = blightedByChunk.get(chunkKey);
+            if (blight == null)
+            {
+                blight = new ChunkBlight();
+                blightedByChunk.put(chunkKey, blight);
+                revertSchedule.track(chunkKey);
+            }
+            blight.add(ChunkBlight.column(pos.getX(), pos.getZ()), pos.getY());
+        }
+
+        /**
+         * @return true if the given position is recorded as blighted
+         */
+        public boolean contains(@Nonnull final BlockPos pos)
+        {
+            final ChunkBlight blight = blightedByChunk.get(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4));
+            final int column = ChunkBlight.column(pos.getX(), pos.getZ());
+            return blight != null && blight.contains(column) && blight.heightAt(column) == pos.getY();
+        }
+
+        /**
+         * Forgets a blighted position.
+         *
+         * @return true if it was recorded
+         */
+        public boolean remove(@Nonnull final BlockPos pos)
         {
-            LongArrayList list = blightedByChunk.get(chunkKey);
-            if (list == null)
+            final long chunkKey = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+            final ChunkBlight blight = blightedByChunk.get(chunkKey);
+            if (blight == null || !contains(pos)) return false;
+
+            blight.remove(ChunkBlight.column(pos.getX(), pos.getZ()));
+            if (blight.size() == 0)
             {
-                list = new LongArrayList(8);
-                blightedByChunk.put(chunkKey, list);
+                blightedByChunk.remove(chunkKey);
             }
-            list.add(posLong);
+            return true;
+        }
+
+        ChunkBlight chunk(final long chunkKey)
+        {
+            return blightedByChunk.get(chunkKey);
         }
 
-        public Iterator<Long2ObjectOpenHashMap.Entry<LongArrayList>> chunkEntriesIterator()
+        void removeChunk(final long chunkKey)
         {
-            return blightedByChunk.long2ObjectEntrySet().fastIterator();
+            blightedByChunk.remove(chunkKey);
+        }
+
+        /**
+         * @return the revert schedule, seeding its cursor with every recorded chunk on first use
+         */
+        RevertSchedule revertSchedule()
+        {
+            if (!revertSchedule.seeded)
+            {
+                revertSchedule.seeded = true;
+                final LongIterator keys = blightedByChunk.keySet().iterator();
+                while (keys.hasNext())
+                {
+                    revertSchedule.track(keys.nextLong());
+                }
+            }
+
+            return revertSchedule;
         }
 
         /**
          * Saves the blight data to the given compound tag.
+         * Columnar layout: one key per chunk, four mask words per chunk, and the Y of every set column
+         * (two bytes each, in chunk then column order).
          *
          * @param tag The compound tag to save to
          * @param registries The registries provider
@@ -619,31 +853,48 @@ public final class BlightSurfaceSystem
         @Override
         public CompoundTag save(@Nonnull final CompoundTag tag, @Nonnull Provider registries)
         {
-            final ListTag chunks = new ListTag();
-
-            for (final Long2ObjectOpenHashMap.Entry<LongArrayList> e : blightedByChunk.long2ObjectEntrySet())
+            int chunkCount = 0;
+            int heightCount = 0;
+            for (final ChunkBlight blight : blightedByChunk.values())
             {
-                final long ckey = e.getLongKey();
-                final LongArrayList list = e.getValue();
-                if (list == null || list.isEmpty()) continue;
-
-                final CompoundTag c = new CompoundTag();
-                c.putLong("k", ckey);
+                if (blight.size() == 0) continue;
+                chunkCount++;
+                heightCount += blight.size();
+            }
 
-                long[] arr = list.toLongArray();
+            final long[] keys = new long[chunkCount];
+            final long[] masks = new long[chunkCount * ChunkBlight.MASK_WORDS];
+            final byte[] heights = new byte[heightCount * 2];
 
-                if (arr == null || arr.length == 0) continue;
+            int chunk = 0;
+            int h = 0;
+            for (final Long2ObjectMap.Entry<ChunkBlight> e : blightedByChunk.long2ObjectEntrySet())
+            {
+                final ChunkBlight blight = e.getValue();
+                if (blight.size() == 0) continue;
 
-                c.put("p", new LongArrayTag(arr));
-                chunks.add(c);
+                keys[chunk] = e.getLongKey();
+                System.arraycopy(blight.mask, 0, masks, chunk * ChunkBlight.MASK_WORDS, ChunkBlight.MASK_WORDS);
+                for (int i = 0; i < blight.size(); i++)
+                {
+                    final short y = blight.heights[i];
+                    heights[h++] = (byte) (y >> 8);
+                    heights[h++] = (byte) y;
+                }
+                chunk++;
             }
 
-            tag.put("chunks", chunks);
+            final CompoundTag columns = new CompoundTag();
+            columns.put(TAG_COLUMN_KEYS, new LongArrayTag(keys));
+            columns.put(TAG_COLUMN_MASKS, new LongArrayTag(masks));
+            columns.put(TAG_COLUMN_HEIGHTS, new ByteArrayTag(heights));
+            tag.put(TAG_COLUMNS, columns);
             return tag;
         }
 
         /**
          * Loads the blight data from the given compound tag.
+         * Saves that predate the columnar layout (one compound of block positions per chunk) are upgraded on load.
          *
          * @param tag The compound tag to load from
          * @param registries The registries provider
@@ -653,22 +904,202 @@ public final class BlightSurfaceSystem
         {
             final BlightSavedData data = new BlightSavedData();
 
-            final ListTag chunks = tag.getList("chunks", Tag.TAG_COMPOUND);
+            if (tag.contains(TAG_COLUMNS, Tag.TAG_COMPOUND))
+            {
+                final CompoundTag columns = tag.getCompound(TAG_COLUMNS);
+                final long[] keys = columns.getLongArray(TAG_COLUMN_KEYS);
+                final long[] masks = columns.getLongArray(TAG_COLUMN_MASKS);
+                final byte[] heights = columns.getByteArray(TAG_COLUMN_HEIGHTS);
+
+                int h = 0;
+                for (int i = 0; i < keys.length && (i + 1) * ChunkBlight.MASK_WORDS <= masks.length; i++)
+                {
+                    final ChunkBlight blight = new ChunkBlight();
+                    for (int word = 0; word < ChunkBlight.MASK_WORDS; word++)
+                    {
+                        long bits = masks[i * ChunkBlight.MASK_WORDS + word];
+                        while (bits != 0L && h + 1 < heights.length)
+                        {
+                            final int column = (word << 6) + Long.numberOfTrailingZeros(bits);
+                            final int y = (short) (((heights[h] & 0xFF) << 8) | (heights[h + 1] & 0xFF));
+                            h += 2;
+                            blight.add(column, y);
+                            bits &= bits - 1;
+                        }
+                    }
+
+                    if (blight.size() > 0)
+                    {
+                        data.blightedByChunk.put(keys[i], blight);
+                    }
+                }
+
+                return data;
+            }
+
+            final ListTag chunks = tag.getList(TAG_LEGACY_CHUNKS, Tag.TAG_COMPOUND);
             for (int i = 0; i < chunks.size(); i++)
             {
                 final CompoundTag c = chunks.getCompound(i);
-                final long ckey = c.getLong("k");
 
-                final long[] arr = c.getLongArray("p");
-                if (arr == null || arr.length == 0) continue;
+                for (final long p : c.getLongArray("p"))
+                {
+                    data.add(NullnessBridge.assumeNonnull(BlockPos.of(p)));
+                }
+            }
+
+            return data;
+        }
+    }
 
-                final LongArrayList list = new LongArrayList(arr.length);
-                for (final long p : arr) list.add(p);
+    /**
+     * Transient revert bookkeeping for one level. Chunk keys leave the queues lazily when their blight is gone.
+     */
+    static final class RevertSchedule
+    {
+        private boolean seeded = false;
 
-                data.blightedByChunk.put(ckey, list);
+        // every blighted chunk once, in visiting order (the cursor is the head)
+        private final LongArrayFIFOQueue rotation = new LongArrayFIFOQueue();
+        private final LongOpenHashSet inRotation = new LongOpenHashSet();
+
+        // chunks in the eligible queue or the pending heap
+        private final LongOpenHashSet scheduled = new LongOpenHashSet();
+
+        // chunks in their revert window, served round-robin
+        private final LongArrayFIFOQueue eligible = new LongArrayFIFOQueue();
+
+        // chunks whose window opens later, ordered by opening time
+        private final Long2LongOpenHashMap pendingStart = new Long2LongOpenHashMap();
+        private final LongHeapPriorityQueue pending = new LongHeapPriorityQueue((a, b) -> Long.compare(pendingStart.get(a), pendingStart.get(b)));
+
+        // blighted chunks with a purification event since the last revert pass
+        private final LongArrayFIFOQueue purified = new LongArrayFIFOQueue();
+        private final LongOpenHashSet purifiedQueued = new LongOpenHashSet();
+
+        private void notePurified(final long chunkKey)
+        {
+            if (purifiedQueued.add(chunkKey))
+            {
+                purified.enqueue(chunkKey);
             }
+        }
 
-            return data;
+        private void track(final long chunkKey)
+        {
+            if (seeded && inRotation.add(chunkKey))
+            {
+                rotation.enqueue(chunkKey);
+            }
+        }
+    }
+
+    /**
+     * Blighted surface columns of one chunk. Blight is always one surface block per column, so a chunk is a
+     * 256-bit column mask (bit = localZ * 16 + localX) plus the Y of each set column, packed in column order:
+     * 32 bytes plus 2 bytes per blighted block. Contains is a bit test; add/remove shift at most 256 shorts.
+     */
+    static final class ChunkBlight
+    {
+        static final int MASK_WORDS = 4;
+
+        private final long[] mask = new long[MASK_WORDS];
+        private short[] heights = new short[4];
+        private int size = 0;
+
+        static int column(final int x, final int z)
+        {
+            return ((z & 15) << 4) | (x & 15);
+        }
+
+        int size()
+        {
+            return size;
+        }
+
+        boolean contains(final int column)
+        {
+            return (mask[column >>> 6] & (1L << column)) != 0L;
+        }
+
+        int heightAt(final int column)
+        {
+            return heights[rank(column)];
+        }
+
+        /**
+         * @return the position of the given blighted column in a chunk
+         */
+        BlockPos posAt(final long chunkKey, final int column)
+        {
+            return new BlockPos((ChunkPos.getX(chunkKey) << 4) | (column & 15), heightAt(column), (ChunkPos.getZ(chunkKey) << 4) | (column >>> 4));
+        }
+
+        /**
+         * @return the column of the n-th (0-based) blighted column in column order
+         */
+        int select(int n)
+        {
+            for (int word = 0; word < MASK_WORDS; word++)
+            {
+                final int count = Long.bitCount(mask[word]);
+                if (n < count)
+                {
+                    long bits = mask[word];
+                    for (int i = 0; i < n; i++)
+                    {
+                        bits &= bits - 1;
+                    }
+                    return (word << 6) + Long.numberOfTrailingZeros(bits);
+                }
+                n -= count;
+            }
+
+            return -1;
+        }
+
+        void add(final int column, final int y)
+        {
+            final int r = rank(column);
+            if (contains(column))
+            {
+                heights[r] = (short) y;
+                return;
+            }
+
+            if (size == heights.length)
+            {
+                heights = Arrays.copyOf(heights, Math.min(256, size * 2));
+            }
+
+            System.arraycopy(heights, r, heights, r + 1, size - r);
+            heights[r] = (short) y;
+            mask[column >>> 6] |= 1L << column;
+            size++;
+        }
+
+        void remove(final int column)
+        {
+            if (!contains(column)) return;
+
+            final int r = rank(column);
+            System.arraycopy(heights, r + 1, heights, r, size - r - 1);
+            mask[column >>> 6] &= ~(1L << column);
+            size--;
+        }
+
+        /**
+         * @return the number of set columns below the given column
+         */
+        private int rank(final int column)
+        {
+            final int word = column >>> 6;
+            int r = 0;
+            for (int i = 0; i < word; i++)
+            {
+                r += Long.bitCount(mask[i]);
+            }
+            return r + Long.bitCount(mask[word] & ((1L << column) - 1L));
         }
     }
 }
@@ -12,7 +12,6 @@ import javax.annotation.Nonnull;
 import com.deathfrog.mctradepost.api.util.NullnessBridge;
 import com.deathfrog.salvationmod.ModBlocks;
 import com.deathfrog.salvationmod.ModItems;
-import com.deathfrog.salvationmod.core.engine.SalvationSavedData.ProgressionSource;
 
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Holder;
@@ -74,6 +73,8 @@ public final class BlightwoodPurification
             return 0;
         }
 
+        final ExtractionTally extraction = new ExtractionTally();
+
         for (final BlockPos targetPos : connectedBlocks)
         {
             if (targetPos == null)
@@ -109,10 +110,12 @@ public final class BlightwoodPurification
             }
 
             level.setBlock(targetPos, purifiedState, Block.UPDATE_ALL);
-            SalvationManager.recordCorruption(level, ProgressionSource.EXTRACTION, targetPos, -1);
+            extraction.add(targetPos);
             spawnPurificationBurst(level, targetPos, sourceState, connectedBlocks.size() > 12);
         }
 
+        extraction.record(level);
+
         dropCorruptionEssence(level, origin, connectedBlocks.size());
         spawnFinale(level, origin, connectedBlocks.size());
         return connectedBlocks.size();
@@ -130,6 +133,7 @@ public final class BlightwoodPurification
         final BlockState purifiedGrass = NullnessBridge.assumeNonnull(Blocks.GRASS_BLOCK.defaultBlockState());
         int convertedBlocks = 0;
         final List<BlockPos> connectedBlocks = collectConnectedBlightedGrass(level, origin);
+        final ExtractionTally extraction = new ExtractionTally();
 
         for (final BlockPos targetPos : connectedBlocks)
         {
@@ -145,11 +149,13 @@ public final class BlightwoodPurification
             }
 
             level.setBlock(targetPos, purifiedGrass, Block.UPDATE_ALL);
-            SalvationManager.recordCorruption(level, ProgressionSource.EXTRACTION, targetPos, -1);
+            extraction.add(targetPos);
             spawnGrassPurificationBurst(level, targetPos);
             convertedBlocks++;
         }
 
+        extraction.record(level);
+
         if (convertedBlocks <= 0)
         {
             return 0;
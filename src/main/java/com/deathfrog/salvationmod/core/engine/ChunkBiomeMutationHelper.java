@@ -66,6 +66,7 @@ public final class ChunkBiomeMutationHelper
 
         chunk.setUnsaved(true);
         level.getChunkSource().chunkMap.resendBiomesForChunks(chunkList);
+        ChunkColonyCache.invalidate(level, chunk.getPos().toLong());
         return true;
     }
 }
@@ -0,0 +1,317 @@
+package com.deathfrog.salvationmod.core.engine;
+
+import java.util.WeakHashMap;
+
+import javax.annotation.Nonnull;
+
+import org.slf4j.Logger;
+
+import com.deathfrog.mctradepost.api.util.TraceUtils;
+import com.deathfrog.salvationmod.ModCommands;
+import com.deathfrog.salvationmod.SalvationMod;
+import com.deathfrog.salvationmod.core.colony.SalvationColonyHandler;
+import com.minecolonies.api.IMinecoloniesAPI;
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
+import com.minecolonies.api.eventbus.EventBus;
+import com.minecolonies.api.eventbus.events.colony.ColonyCreatedModEvent;
+import com.minecolonies.api.eventbus.events.colony.ColonyDeletedModEvent;
+import com.minecolonies.api.util.ColonyUtils;
+import com.mojang.logging.LogUtils;
+
+import it.unimi.dsi.fastutil.ints.Int2DoubleOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2LongMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.level.ChunkEvent;
+import net.neoforged.neoforge.event.level.LevelEvent;
+
+/**
+ * Per-level cache of the facts {@link ChunkCorruptionSystem} needs about a chunk before it
+ * applies a corruption change: which colony owns it, whether its biome is purified, and how
+ * much corruption immunity the owning colony has researched.
+ *
+ * Each chunk resolves to a single packed long so the hot path is one primitive map probe:
+ *  - bits 0..31  : owning colony id (0 = unowned)
+ *  - bits 32..61 : immunity research strength, fixed point ({@link #IMMUNITY_SCALE})
+ *  - bit 62      : center biome is purified
+ *  - bit 63      : entry present
+ *
+ * Entries are invalidated when chunks load/unload, when colonies are created or deleted,
+ * when a chunk biome is mutated, and when a colony's immunity research changes. Because
+ * claim growth from building upgrades is not announced, the whole level cache is also
+ * dropped every {@link #REFRESH_TICKS} as a safety net.
+ */
+@EventBusSubscriber(modid = SalvationMod.MODID)
+public final class ChunkColonyCache
+{
+    private ChunkColonyCache() {}
+
+    public static final Logger LOGGER = LogUtils.getLogger();
+
+    /** Maximum age of a cached entry before the level cache is rebuilt lazily. */
+    private static final long REFRESH_TICKS = 20L * 30L;
+
+    private static final long PRESENT = 1L << 63;
+    private static final long PURIFIED = 1L << 62;
+    private static final int IMMUNITY_SHIFT = 32;
+    private static final long IMMUNITY_MASK = (1L << 30) - 1L;
+    private static final double IMMUNITY_SCALE = 1_000_000.0D;
+
+    private static final WeakHashMap<ServerLevel, LevelCache> CACHES = new WeakHashMap<>();
+
+    private static boolean listeningForColonies = false;
+
+    private static final class LevelCache
+    {
+        // chunkKey -> packed entry (0 = absent)
+        private final Long2LongOpenHashMap entries = new Long2LongOpenHashMap();
+        // colony id -> last immunity strength baked into entries
+        private final Int2DoubleOpenHashMap colonyImmunity = new Int2DoubleOpenHashMap();
+        private long refreshAt = Long.MIN_VALUE;
+
+        private LevelCache()
+        {
+            entries.defaultReturnValue(0L);
+            colonyImmunity.defaultReturnValue(Double.NaN);
+        }
+    }
+
+    /**
+     * Subscribes to the MineColonies colony lifecycle events that change chunk ownership.
+     * Safe to call more than once.
+     */
+    public static void registerColonyListeners()
+    {
+        if (listeningForColonies) return;
+
+        listeningForColonies = true;
+        final EventBus bus = IMinecoloniesAPI.getInstance().getEventBus();
+        // A new colony claims previously unowned chunks, so every cached "unowned" entry may be stale.
+        bus.subscribe(ColonyCreatedModEvent.class, event ->
+        {
+            if (event.getColony() != null && event.getColony().getWorld() instanceof ServerLevel level)
+            {
+                invalidateLevel(level);
+            }
+        });
+        bus.subscribe(ColonyDeletedModEvent.class, event -> invalidateColonyWorld(event.getColony()));
+    }
+
+    /**
+     * Returns the packed cache entry for the given chunk, resolving and storing it on a miss.
+     *
+     * @param level the level containing the chunk
+     * @param chunkKey the {@link ChunkPos#toLong()} key of the chunk
+     * @return the packed entry; decode with {@link #owningColonyId(long)}, {@link #isPurified(long)}
+     *         and {@link #immunityStrength(long)}
+     */
+    public static long lookup(final @Nonnull ServerLevel level, final long chunkKey)
+    {
+        final LevelCache cache = cacheFor(level);
+        final long gameTime = level.getGameTime();
+
+        if (gameTime >= cache.refreshAt)
+        {
+            cache.entries.clear();
+            cache.refreshAt = gameTime + REFRESH_TICKS;
+        }
+
+        long packed = cache.entries.get(chunkKey);
+        if (packed == 0L)
+        {
+            packed = resolve(level, cache, chunkKey);
+            cache.entries.put(chunkKey, packed);
+        }
+
+        return packed;
+    }
+
+    /**
+     * @return the id of the colony owning the chunk, or 0 if unowned
+     */
+    public static int owningColonyId(final long packed)
+    {
+        return (int) packed;
+    }
+
+    /**
+     * @return true if the chunk's center biome is one of the purified biomes
+     */
+    public static boolean isPurified(final long packed)
+    {
+        return (packed & PURIFIED) != 0L;
+    }
+
+    /**
+     * @return the owning colony's corruption immunity research strength, or 0 if unowned
+     */
+    public static double immunityStrength(final long packed)
+    {
+        return ((packed >>> IMMUNITY_SHIFT) & IMMUNITY_MASK) / IMMUNITY_SCALE;
+    }
+
+    /**
+     * Drops the cached entry for a single chunk.
+     */
+    public static void invalidate(final @Nonnull ServerLevel level, final long chunkKey)
+    {
+        final LevelCache cache = CACHES.get(level);
+        if (cache != null)
+        {
+            cache.entries.remove(chunkKey);
+        }
+    }
+
+    /**
+     * Drops every cached entry owned by the given colony.
+     */
+    public static void invalidateColony(final @Nonnull ServerLevel level, final int colonyId)
+    {
+        final LevelCache cache = CACHES.get(level);
+        if (cache == null) return;
+
+        cache.colonyImmunity.remove(colonyId);
+
+        final ObjectIterator<Long2LongMap.Entry> it = cache.entries.long2LongEntrySet().fastIterator();
+        while (it.hasNext())
+        {
+            if (owningColonyId(it.next().getLongValue()) == colonyId)
+            {
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Drops every cached entry for the level.
+     */
+    public static void invalidateLevel(final @Nonnull ServerLevel level)
+    {
+        final LevelCache cache = CACHES.get(level);
+        if (cache != null)
+        {
+            cache.entries.clear();
+            cache.colonyImmunity.clear();
+        }
+    }
+
+    /**
+     * Re-reads the colony's immunity research and invalidates its chunks if the value baked into
+     * the cache has changed. Called from the periodic colony logic.
+     */
+    public static void refreshColonyResearch(final @Nonnull ServerLevel level, final @Nonnull IColony colony)
+    {
+        final LevelCache cache = CACHES.get(level);
+        if (cache == null) return;
+
+        final double cached = cache.colonyImmunity.get(colony.getID());
+        if (Double.isNaN(cached)) return;
+
+        final double current = immunityFor(colony);
+        if (Double.compare(cached, current) != 0)
+        {
+            TraceUtils.dynamicTrace(ModCommands.TRACE_CORRUPTION, () -> LOGGER.info("Immunity research for colony {} changed from {} to {}; invalidating chunk ownership cache.",
+                colony.getID(), cached, current));
+            invalidateColony(level, colony.getID());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onChunkLoad(final ChunkEvent.Load event)
+    {
+        if (event.getLevel() instanceof ServerLevel level)
+        {
+            invalidate(level, event.getChunk().getPos().toLong());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onChunkUnload(final ChunkEvent.Unload event)
+    {
+        if (event.getLevel() instanceof ServerLevel level)
+        {
+            invalidate(level, event.getChunk().getPos().toLong());
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(final LevelEvent.Unload event)
+    {
+        if (event.getLevel() instanceof ServerLevel level)
+        {
+            CACHES.remove(level);
+        }
+    }
+
+    private static LevelCache cacheFor(final ServerLevel level)
+    {
+        LevelCache cache = CACHES.get(level);
+        if (cache == null)
+        {
+            cache = new LevelCache();
+            CACHES.put(level, cache);
+        }
+        return cache;
+    }
+
+    private static void invalidateColonyWorld(final IColony colony)
+    {
+        if (colony != null && colony.getWorld() instanceof ServerLevel level)
+        {
+            invalidateColony(level, colony.getID());
+        }
+    }
+
+    /**
+     * Resolves ownership, purified biome and immunity for a chunk. Ownership is read from the
+     * loaded chunk's claim data; an unloaded chunk is treated as unowned until it loads.
+     */
+    private static long resolve(final ServerLevel level, final LevelCache cache, final long chunkKey)
+    {
+        final ChunkPos chunkPos = new ChunkPos(chunkKey);
+
+        int colonyId = 0;
+        double immunity = 0.0D;
+
+        final LevelChunk chunk = level.getChunkSource().getChunkNow(chunkPos.x, chunkPos.z);
+        if (chunk != null)
+        {
+            final IColony owningColony = IColonyManager.getInstance().getColonyByWorld(ColonyUtils.getOwningColony(chunk), level);
+            if (owningColony != null)
+            {
+                colonyId = owningColony.getID();
+                immunity = immunityFor(owningColony);
+                cache.colonyImmunity.put(colonyId, immunity);
+            }
+        }
+
+        long packed = PRESENT | (colonyId & 0xFFFFFFFFL);
+        packed |= (Math.round(Math.max(0.0D, immunity) * IMMUNITY_SCALE) & IMMUNITY_MASK) << IMMUNITY_SHIFT;
+
+        if (isCenterBiomePurified(level, chunkPos))
+        {
+            packed |= PURIFIED;
+        }
+
+        return packed;
+    }
+
+    private static double immunityFor(final IColony colony)
+    {
+        return colony.getResearchManager().getResearchEffects().getEffectStrength(SalvationColonyHandler.RESEARCH_IMMUNITY);
+    }
+
+    private static boolean isCenterBiomePurified(final ServerLevel level, final ChunkPos chunkPos)
+    {
+        // Same sample the biome mutation passes use, so the PURIFIED bit agrees with them.
+        final ResourceLocation biomeId = ChunkCorruptionSystem.getBiomeId(ChunkCorruptionSystem.getChunkCenterBiome(level, chunkPos));
+        return biomeId != null && BiomeMappingsManager.get().isPurifiedBiome(biomeId);
+    }
+}
@@ -1,25 +1,29 @@
 package com.deathfrog.salvationmod.core.engine;
 
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
-import java.util.WeakHashMap;
 
 import org.slf4j.Logger;
 
 import com.deathfrog.mctradepost.api.util.TraceUtils;
+import com.deathfrog.salvationmod.ModAttachments;
 import com.deathfrog.salvationmod.ModCommands;
 import com.mojang.logging.LogUtils;
 
 import it.unimi.dsi.fastutil.longs.Long2LongMap;
 import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
 import net.minecraft.core.BlockPos;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.world.entity.Entity;
 import net.minecraft.world.entity.Mob;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.entity.EntityTypeTest;
 import net.minecraft.world.phys.AABB;
+import net.neoforged.neoforge.attachment.AttachmentType;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.common.EventBusSubscriber;
 import net.neoforged.neoforge.event.level.ChunkEvent;
@@ -49,10 +53,35 @@ public final class ChunkCorruptionSpawnReplacement
     private static final int PLAYER_RADIUS_CHUNKS = 6;          // 96 blocks
     private static final int SWEEP_SAMPLES_PER_PLAYER = 2;      // candidates created per tick per player (lightweight)
 
-    // chunkKey -> dueGameTime (when this chunk is allowed to be processed)
-    private static final WeakHashMap<ServerLevel, Long2LongOpenHashMap> PENDING = new WeakHashMap<>();
-    // chunkKey -> lastCheckedGameTime (cooldown)
-    private static final WeakHashMap<ServerLevel, Long2LongOpenHashMap> LAST_CHECK = new WeakHashMap<>();
+    private static final EntityTypeTest<Entity, Mob> MOBS = EntityTypeTest.forClass(Mob.class);
+
+    /**
+     * Per-level check schedule, held as a (non-persisted) level attachment so it lives and dies with the level.
+     * Entries for a chunk are evicted when it unloads, unless the chunk is still cooling down (so a quick
+     * unload/reload does not re-arm it); those are pruned once their cooldown has passed.
+     */
+    public static final class ChunkChecks
+    {
+        // chunkKey -> dueGameTime (when this chunk is allowed to be processed)
+        private final Long2LongOpenHashMap pending = new Long2LongOpenHashMap();
+        // chunkKey -> lastCheckedGameTime (cooldown)
+        private final Long2LongOpenHashMap lastCheck = new Long2LongOpenHashMap();
+        // Reused sweep candidate buffer (packed chunk keys).
+        private final LongArrayList candidates = new LongArrayList();
+        private long nextPrune = Long.MIN_VALUE;
+
+        public ChunkChecks()
+        {
+            pending.defaultReturnValue(Long.MAX_VALUE);
+            lastCheck.defaultReturnValue(Long.MIN_VALUE);
+        }
+    }
+
+    private static ChunkChecks checks(final ServerLevel level)
+    {
+        final AttachmentType<ChunkChecks> attachmentType = ModAttachments.SPAWN_REPLACEMENT_CHECKS.get();
+        return attachmentType == null ? null : level.getData(attachmentType);
+    }
 
     @SubscribeEvent
     public static void onChunkLoad(final ChunkEvent.Load event)
@@ -63,11 +92,14 @@ public final class ChunkCorruptionSpawnReplacement
         if (!(event.getChunk() instanceof LevelChunk chunk))
             return;
 
+        final ChunkChecks checks = checks(level);
+        if (checks == null)
+            return;
+
         final long now = level.getGameTime();
         final long key = chunk.getPos().toLong();
 
-        final Long2LongOpenHashMap last = LAST_CHECK.computeIfAbsent(level, l -> new Long2LongOpenHashMap());
-        final long lastTime = last.getOrDefault(key, Long.MIN_VALUE);
+        final long lastTime = checks.lastCheck.get(key);
 
         if (lastTime != Long.MIN_VALUE && now - lastTime < COOLDOWN_TICKS_PER_CHUNK)
         {
@@ -78,16 +110,39 @@ public final class ChunkCorruptionSpawnReplacement
         final int offset = bucketOffset(key, SPREAD_TICKS);
         final long due = now + offset;
 
-        final Long2LongOpenHashMap pending = PENDING.computeIfAbsent(level, l -> new Long2LongOpenHashMap());
-
         // Keep earliest due time if it’s already pending
-        final long existingDue = pending.getOrDefault(key, Long.MAX_VALUE);
+        final long existingDue = checks.pending.get(key);
 
         if (due < existingDue)
         {
             TraceUtils.dynamicTrace(ModCommands.TRACE_SPAWN,
                 () -> LOGGER.info("ChunkCorruptionSpawnReplacement chunk loading hook. now={}, lastTime={}, bucketOffset={}, due={}. Scheduling corruption check for {}", now, lastTime, offset, due, key));
-            pending.put(key, due);
+            checks.pending.put(key, due);
+        }
+    }
+
+    /**
+     * Drops the unloading chunk's pending check, and its cooldown entry unless it is still cooling down.
+     */
+    @SubscribeEvent
+    public static void onChunkUnload(final ChunkEvent.Unload event)
+    {
+        if (!(event.getLevel() instanceof ServerLevel level))
+            return;
+
+        final AttachmentType<ChunkChecks> attachmentType = ModAttachments.SPAWN_REPLACEMENT_CHECKS.get();
+        if (attachmentType == null || !level.hasData(attachmentType))
+            return;
+
+        final ChunkChecks checks = level.getData(attachmentType);
+        final long key = event.getChunk().getPos().toLong();
+
+        checks.pending.remove(key);
+
+        final long lastTime = checks.lastCheck.get(key);
+        if (lastTime != Long.MIN_VALUE && level.getGameTime() - lastTime >= COOLDOWN_TICKS_PER_CHUNK)
+        {
+            checks.lastCheck.remove(key);
         }
     }
 
@@ -97,15 +152,25 @@ public final class ChunkCorruptionSpawnReplacement
         if (!(event.getLevel() instanceof ServerLevel level))
             return;
 
+        final ChunkChecks checks = checks(level);
+        if (checks == null)
+            return;
+
         final long now = level.getGameTime();
 
+        // ---- 0) Forget cooldowns that have expired (chunks unloaded while still cooling down) ----
+        if (now >= checks.nextPrune)
+        {
+            pruneExpiredChecks(checks, now);
+        }
+
         // ---- 1) Process pending chunk-load checks that are due ----
-        final Long2LongOpenHashMap pending = PENDING.get(level);
+        final Long2LongOpenHashMap pending = checks.pending;
 
-        if (pending != null && !pending.isEmpty())
+        if (!pending.isEmpty())
         {
             int processed = 0;
-            final Iterator<Long2LongMap.Entry> it = pending.long2LongEntrySet().fastIterator();
+            final ObjectIterator<Long2LongMap.Entry> it = pending.long2LongEntrySet().fastIterator();
 
             while (it.hasNext() && processed < MAX_PENDING_CHUNKS_PER_TICK)
             {
@@ -118,9 +183,9 @@ public final class ChunkCorruptionSpawnReplacement
                 it.remove();
 
                 // Re-check cooldown right before work (race-proof)
-                if (!markCheckedIfAllowed(level, chunkKey, now)) continue;
+                if (!markCheckedIfAllowed(checks, chunkKey, now)) continue;
 
-                attemptConversionsInChunk(level, new ChunkPos(chunkKey));
+                attemptConversionsInChunk(level, chunkKey);
                 processed++;
             }
         }
@@ -128,7 +193,25 @@ public final class ChunkCorruptionSpawnReplacement
         // ---- 2) Always-loaded sweep: run every tick, but only process a small, bucketed set ----
         // Bucket gating: only chunks whose bucket matches this tick get processed,
         // which spaces checks evenly across SPREAD_TICKS.
-        sweepLoadedChunksNearPlayers(level, now);
+        sweepLoadedChunksNearPlayers(level, checks, now);
+    }
+
+    /**
+     * Removes cooldown entries that no longer block a check. Runs once per cooldown period.
+     */
+    private static void pruneExpiredChecks(final ChunkChecks checks, final long now)
+    {
+        final ObjectIterator<Long2LongMap.Entry> it = checks.lastCheck.long2LongEntrySet().fastIterator();
+
+        while (it.hasNext())
+        {
+            if (now - it.next().getLongValue() >= COOLDOWN_TICKS_PER_CHUNK)
+            {
+                it.remove();
+            }
+        }
+
+        checks.nextPrune = now + COOLDOWN_TICKS_PER_CHUNK;
     }
 
 
@@ -145,29 +228,32 @@ public final class ChunkCorruptionSpawnReplacement
      * conversions in that chunk.
      *
      * @param level Server level to process on
+     * @param checks the level's check schedule
      * @param now Current game time (long)
      */
-    private static void sweepLoadedChunksNearPlayers(final ServerLevel level, final long now)
+    private static void sweepLoadedChunksNearPlayers(final ServerLevel level, final ChunkChecks checks, final long now)
     {
         if (level.players().isEmpty())
             return;
 
         final int currentBucket = (int) (Math.floorMod(now, SPREAD_TICKS));
-        final List<ChunkPos> candidates = new ArrayList<>(level.players().size() * SWEEP_SAMPLES_PER_PLAYER);
+        final LongArrayList candidates = checks.candidates;
+        candidates.clear();
 
         for (final ServerPlayer player : level.players())
         {
-            BlockPos pos = player.blockPosition();
+            final BlockPos pos = player.blockPosition();
 
             if (pos == null) continue;
 
-            final ChunkPos center = new ChunkPos(pos);
+            final int centerX = pos.getX() >> 4;
+            final int centerZ = pos.getZ() >> 4;
 
             for (int i = 0; i < SWEEP_SAMPLES_PER_PLAYER; i++)
             {
                 final int dx = level.random.nextInt(-PLAYER_RADIUS_CHUNKS, PLAYER_RADIUS_CHUNKS + 1);
                 final int dz = level.random.nextInt(-PLAYER_RADIUS_CHUNKS, PLAYER_RADIUS_CHUNKS + 1);
-                candidates.add(new ChunkPos(center.x + dx, center.z + dz));
+                candidates.add(ChunkPos.asLong(centerX + dx, centerZ + dz));
             }
         }
 
@@ -175,40 +261,40 @@ public final class ChunkCorruptionSpawnReplacement
 
         while (processed < MAX_SWEEP_CHUNKS_PER_TICK && !candidates.isEmpty())
         {
+            // Random pick without replacement: swap the last candidate into the picked slot.
             final int idx = level.random.nextInt(candidates.size());
-            final ChunkPos cp = candidates.remove(idx);
+            final long key = candidates.getLong(idx);
+            candidates.set(idx, candidates.getLong(candidates.size() - 1));
+            candidates.removeLong(candidates.size() - 1);
 
-            if (!level.hasChunk(cp.x, cp.z))
+            if (!level.hasChunk(ChunkPos.getX(key), ChunkPos.getZ(key)))
                 continue;
 
-            final long key = cp.toLong();
-
             // Bucket gate: this chunk only eligible on its assigned “slot” within SPREAD_TICKS
             final int bucket = bucketOffset(key, SPREAD_TICKS);
 
             if (bucket != currentBucket) continue;
 
-            if (!markCheckedIfAllowed(level, key, now)) continue;
+            if (!markCheckedIfAllowed(checks, key, now)) continue;
 
-            attemptConversionsInChunk(level, cp);
+            attemptConversionsInChunk(level, key);
             processed++;
         }
     }
 
     /**
-     * Returns true and updates LAST_CHECK if the chunk is past cooldown; otherwise false.
+     * Returns true and records the check time if the chunk is past cooldown; otherwise false.
      */
-    private static boolean markCheckedIfAllowed(final ServerLevel level, final long chunkKey, final long now)
+    private static boolean markCheckedIfAllowed(final ChunkChecks checks, final long chunkKey, final long now)
     {
-        final Long2LongOpenHashMap last = LAST_CHECK.computeIfAbsent(level, l -> new Long2LongOpenHashMap());
-        final long lastTime = last.getOrDefault(chunkKey, Long.MIN_VALUE);
+        final long lastTime = checks.lastCheck.get(chunkKey);
 
         if (lastTime != Long.MIN_VALUE && now - lastTime < COOLDOWN_TICKS_PER_CHUNK)
         {
             return false;
         }
 
-        last.put(chunkKey, now);
+        checks.lastCheck.put(chunkKey, now);
         return true;
     }
 
@@ -228,76 +314,89 @@ public final class ChunkCorruptionSpawnReplacement
     }
 
     /**
-     * Iterate over all entities in the given chunk and attempt to replace them with corrupted versions if applicable.
-     * Stops after MAX_CONVERSIONS_PER_CHUNK successful conversions to prevent performance issues.
+     * Scan the mobs in the given chunk and attempt to replace them with corrupted versions if applicable.
+     * Only the chunk's entity sections are visited, filtered to corruptable mobs. Conversions are started from within
+     * the scan, so only mobs whose conversion actually started count toward MAX_CONVERSIONS_PER_CHUNK; the scan stops
+     * as soon as that many have started.
      * @param level the level to process
-     * @param cp the chunk position to process
+     * @param chunkKey the packed chunk position to process
      */
-    private static void attemptConversionsInChunk(final ServerLevel level, final ChunkPos cp)
+    private static void attemptConversionsInChunk(final ServerLevel level, final long chunkKey)
     {
-        final int minX = cp.getMinBlockX();
-        final int minZ = cp.getMinBlockZ();
-        final int maxX = minX + 15;
-        final int maxZ = minZ + 15;
+        TraceUtils.dynamicTrace(ModCommands.TRACE_SPAWN,
+                    () -> LOGGER.info("Attempting entity conversions in chunk {}.", new ChunkPos(chunkKey)));
+
+        // Match corruptOnSpawn semantics
+        final CorruptionStage stage = SalvationManager.stageForLevel(level);
+        if (stage == CorruptionStage.STAGE_0_UNTRIGGERED)
+            return;
+
+        final float stageChance = stage.getEntitySpawnChance();
+        if (stageChance <= 0.0F)
+            return;
 
-        final int minY = level.getMinBuildHeight();
-        final int maxY = level.getMaxBuildHeight() - 1;
+        final int minX = ChunkPos.getX(chunkKey) << 4;
+        final int minZ = ChunkPos.getZ(chunkKey) << 4;
 
         final AABB box = new AABB(
-            minX, minY, minZ,
-            maxX + 1, maxY + 1, maxZ + 1
+            minX, level.getMinBuildHeight(), minZ,
+            minX + 16, level.getMaxBuildHeight(), minZ + 16
         );
 
-        int conversions = 0;
-
-        TraceUtils.dynamicTrace(ModCommands.TRACE_SPAWN,
-                    () -> LOGGER.info("Attempting entity conversions in chunk {}.", cp));
+        final List<Mob> started = new ArrayList<>(MAX_CONVERSIONS_PER_CHUNK);
 
-        for (final Mob mob : level.getEntitiesOfClass(Mob.class, box, m -> true))
-        {
-            if (conversions >= MAX_CONVERSIONS_PER_CHUNK)
-                break;
+        // Starting a conversion only attaches data and plays effects, so it is safe inside the section scan.
+        level.getEntities(MOBS, box, mob -> rollReplacement(level, mob, stageChance) && startReplacement(level, mob), started, MAX_CONVERSIONS_PER_CHUNK);
+    }
 
-            if (!mob.isAlive())
-                continue;
+    /**
+     * Starts the corrupting conversion of a mob that passed its replacement roll.
+     *
+     * @return true if the conversion started
+     */
+    private static boolean startReplacement(final ServerLevel level, final Mob mob)
+    {
+        if (!EntityConversion.startConversion(level, mob, false))
+            return false;
 
-            if (SalvationManager.isCorruptedEntity(mob.getType()))
-                continue;
+        TraceUtils.dynamicTrace(ModCommands.TRACE_SPAWN,
+            () -> LOGGER.info("Corruption initiated replacement of {} during chunk check.", mob));
 
-            if (!SalvationManager.isCorruptableEntity(mob.getType()))
-                continue;
+        return true;
+    }
 
-            // After corruptable/corrupted checks, before startConversion(...)
-            final BlockPos pos = mob.blockPosition();
-            if (pos == null) continue;
+    /**
+     * Type and state filter for the chunk scan, followed by the replacement roll.
+     *
+     * @return true if the mob should be converted
+     */
+    private static boolean rollReplacement(final ServerLevel level, final Mob mob, final float stageChance)
+    {
+        if (!mob.isAlive())
+            return false;
 
-            // Match corruptOnSpawn semantics
-            final CorruptionStage stage = SalvationManager.stageForLevel(level);
-            if (stage == CorruptionStage.STAGE_0_UNTRIGGERED)
-                continue;
+        // One classification lookup answers both tag questions.
+        final int flags = TagClassification.entityFlags(mob.getType());
+        if ((flags & TagClassification.CORRUPTED_ENTITY) != 0 || (flags & TagClassification.CORRUPTABLE_ENTITY) == 0)
+            return false;
 
-            float replacementChance = stage.getEntitySpawnChance();
+        if (ConversionTracker.isConverting(mob))
+            return false;
 
-            replacementChance *= ChunkCorruptionSystem.spawnChanceMultiplier(level, pos);
-            replacementChance *= 1.0F - SalvationManager.colonyAnimalCorruptionChanceReduction(level, pos);
+        final BlockPos pos = mob.blockPosition();
+        if (pos == null) return false;
 
-            if (replacementChance <= 0.0F || Float.isNaN(replacementChance)) continue;
+        float replacementChance = stageChance;
 
-            replacementChance = Math.min(1.0F, Math.max(0.0F, replacementChance));
+        replacementChance *= ChunkCorruptionSystem.spawnChanceMultiplier(level, pos);
+        replacementChance *= 1.0F - SalvationManager.colonyAnimalCorruptionChanceReduction(level, pos);
 
-            if (level.random.nextFloat() > replacementChance) continue;
+        if (replacementChance <= 0.0F || Float.isNaN(replacementChance)) return false;
 
-            if (!SalvationManager.isCorruptedSpawnAllowed(level, pos)) continue;
+        replacementChance = Math.min(1.0F, Math.max(0.0F, replacementChance));
 
-            final boolean replacementStarted = EntityConversion.startConversion(level, mob, false);
+        if (level.random.nextFloat() > replacementChance) return false;
 
-            if (replacementStarted)
-            {
-                TraceUtils.dynamicTrace(ModCommands.TRACE_SPAWN,
-                    () -> LOGGER.info("Corruption initiated replacement of {} during chunk check.", mob));
-                conversions++;
-            }
-        }
+        return SalvationManager.isCorruptedSpawnAllowed(level, pos);
     }
 }
-
@@ -0,0 +1,427 @@
+package com.deathfrog.salvationmod.core.engine;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.minecraft.util.RandomSource;
+import net.minecraft.world.level.ChunkPos;
+
+/**
+ * Region-tiled backing store for the per-chunk corruption layer held by {@link SalvationSavedData}.
+ *
+ * Chunks are grouped into {@value #REGION_SIZE}x{@value #REGION_SIZE} tiles. Each tile holds packed
+ * parallel arrays (corruption value and the three event timestamps) plus two presence bitsets: one for
+ * chunks with stored corruption and one for chunks whose biome has been mutated to a corrupted biome.
+ * A chunk read is a single tile probe (usually served by the last-tile cache when walking neighbours)
+ * followed by array indexing, instead of one hash probe per field.
+ *
+ * The two bitsets are independent: a chunk may keep its mutated-biome flag after its corruption is evicted.
+ * A tile is dropped once both bitsets are empty.
+ *
+ * Three dense key indexes are maintained incrementally as values and timestamps change, so the
+ * corruption tick never has to snapshot the whole table:
+ *  - every chunk with stored corruption (spread sampling, decay walk)
+ *  - chunks eligible for corrupted-biome mutation
+ *  - chunks eligible for biome purification
+ *
+ * Chunks whose client-visible state (value or mutated flag) changes are also collected in a transient
+ * change set, drained by the client sync.
+ */
+final class ChunkCorruptionStore
+{
+    static final int REGION_SHIFT = 5;
+    static final int REGION_SIZE = 1 << REGION_SHIFT;
+    static final int REGION_MASK = REGION_SIZE - 1;
+    static final int REGION_AREA = REGION_SIZE * REGION_SIZE;
+    private static final int BITSET_WORDS = REGION_AREA / Long.SIZE;
+
+    static final class Region
+    {
+        final int regionX;
+        final int regionZ;
+        final short[] corruption = new short[REGION_AREA];
+        final long[] lastTouched = new long[REGION_AREA];
+        final long[] lastCorruptionEvent = new long[REGION_AREA];
+        final long[] lastPurificationEvent = new long[REGION_AREA];
+        final long[] present = new long[BITSET_WORDS];
+        final long[] mutated = new long[BITSET_WORDS];
+        int presentCount = 0;
+        int mutatedCount = 0;
+
+        Region(final int regionX, final int regionZ)
+        {
+            this.regionX = regionX;
+            this.regionZ = regionZ;
+        }
+
+        boolean isPresent(final int index)
+        {
+            return (present[index >>> 6] & (1L << index)) != 0L;
+        }
+
+        boolean isMutated(final int index)
+        {
+            return (mutated[index >>> 6] & (1L << index)) != 0L;
+        }
+
+        boolean isEmpty()
+        {
+            return presentCount == 0 && mutatedCount == 0;
+        }
+
+        /**
+         * @return the chunk key for a local tile index
+         */
+        long chunkKey(final int index)
+        {
+            return ChunkPos.asLong((regionX << REGION_SHIFT) | (index & REGION_MASK), (regionZ << REGION_SHIFT) | (index >>> REGION_SHIFT));
+        }
+    }
+
+    private final Long2ObjectOpenHashMap<Region> regions = new Long2ObjectOpenHashMap<>();
+    private final DenseChunkKeySet active = new DenseChunkKeySet();
+    private final DenseChunkKeySet mutationCandidates = new DenseChunkKeySet();
+    private final DenseChunkKeySet purificationCandidates = new DenseChunkKeySet();
+    private int mutatedSize = 0;
+    private final LongOpenHashSet changed = new LongOpenHashSet();
+
+    // One-entry cache: spread, decay and neighbour sampling tend to hit the same tile repeatedly.
+    private long cachedRegionKey = Long.MIN_VALUE;
+    private Region cachedRegion = null;
+
+    static long regionKey(final long chunkKey)
+    {
+        return ChunkPos.asLong(ChunkPos.getX(chunkKey) >> REGION_SHIFT, ChunkPos.getZ(chunkKey) >> REGION_SHIFT);
+    }
+
+    static int localIndex(final long chunkKey)
+    {
+        return ((ChunkPos.getZ(chunkKey) & REGION_MASK) << REGION_SHIFT) | (ChunkPos.getX(chunkKey) & REGION_MASK);
+    }
+
+    private Region region(final long chunkKey, final boolean create)
+    {
+        final long regionKey = regionKey(chunkKey);
+        if (cachedRegion != null && regionKey == cachedRegionKey)
+        {
+            return cachedRegion;
+        }
+
+        Region region = regions.get(regionKey);
+        if (region == null)
+        {
+            if (!create)
+            {
+                return null;
+            }
+
+            region = new Region(ChunkPos.getX(chunkKey) >> REGION_SHIFT, ChunkPos.getZ(chunkKey) >> REGION_SHIFT);
+            regions.put(regionKey, region);
+        }
+
+        cachedRegionKey = regionKey;
+        cachedRegion = region;
+        return region;
+    }
+
+    private void dropIfEmpty(final long chunkKey, final Region region)
+    {
+        if (!region.isEmpty()) return;
+
+        final long regionKey = regionKey(chunkKey);
+        regions.remove(regionKey);
+        if (cachedRegionKey == regionKey)
+        {
+            cachedRegion = null;
+            cachedRegionKey = Long.MIN_VALUE;
+        }
+    }
+
+    // -------------------------
+    // Corruption values
+    // -------------------------
+
+    int getCorruption(final long chunkKey)
+    {
+        final Region region = region(chunkKey, false);
+        return region == null ? 0 : region.corruption[localIndex(chunkKey)];
+    }
+
+    boolean hasCorruption(final long chunkKey)
+    {
+        final Region region = region(chunkKey, false);
+        return region != null && region.isPresent(localIndex(chunkKey));
+    }
+
+    long getLastTouched(final long chunkKey)
+    {
+        final Region region = region(chunkKey, false);
+        return region == null ? 0L : region.lastTouched[localIndex(chunkKey)];
+    }
+
+    long getLastCorruptionEvent(final long chunkKey)
+    {
+        final Region region = region(chunkKey, false);
+        return region == null ? 0L : region.lastCorruptionEvent[localIndex(chunkKey)];
+    }
+
+    long getLastPurificationEvent(final long chunkKey)
+    {
+        final Region region = region(chunkKey, false);
+        return region == null ? 0L : region.lastPurificationEvent[localIndex(chunkKey)];
+    }
+
+    /**
+     * Stores a positive corruption value. Timestamps are left untouched; a newly present chunk starts at 0.
+     * Values are clamped to the short range, well above {@link ChunkCorruptionSystem#CORRUPTION_HARD_MAX}.
+     */
+    void setCorruption(final long chunkKey, final int value)
+    {
+        final Region region = region(chunkKey, true);
+        final int index = localIndex(chunkKey);
+
+        if (!region.isPresent(index))
+        {
+            region.present[index >>> 6] |= 1L << index;
+            region.presentCount++;
+            active.add(chunkKey);
+        }
+
+        final short stored = (short) Math.min(value, Short.MAX_VALUE);
+        if (region.corruption[index] != stored) changed.add(chunkKey);
+        region.corruption[index] = stored;
+        reindex(chunkKey, region, index);
+    }
+
+    /**
+     * Sets the three event timestamps for a chunk that already has corruption stored.
+     * Non-positive values leave the corresponding field unchanged.
+     */
+    void touch(final long chunkKey, final long lastTouched, final long lastCorruptionEvent, final long lastPurificationEvent)
+    {
+        final Region region = region(chunkKey, false);
+        if (region == null) return;
+
+        final int index = localIndex(chunkKey);
+        if (!region.isPresent(index)) return;
+
+        if (lastTouched > 0L) region.lastTouched[index] = lastTouched;
+        if (lastCorruptionEvent > 0L) region.lastCorruptionEvent[index] = lastCorruptionEvent;
+        if (lastPurificationEvent > 0L) region.lastPurificationEvent[index] = lastPurificationEvent;
+        reindex(chunkKey, region, index);
+    }
+
+    /**
+     * Removes the corruption value and its timestamps. The mutated-biome flag is kept.
+     *
+     * @return true if the chunk had stored corruption
+     */
+    boolean removeCorruption(final long chunkKey)
+    {
+        final Region region = region(chunkKey, false);
+        if (region == null) return false;
+
+        final int index = localIndex(chunkKey);
+        if (!region.isPresent(index)) return false;
+
+        region.present[index >>> 6] &= ~(1L << index);
+        region.presentCount--;
+        active.remove(chunkKey);
+        mutationCandidates.remove(chunkKey);
+        purificationCandidates.remove(chunkKey);
+        changed.add(chunkKey);
+
+        region.corruption[index] = 0;
+        region.lastTouched[index] = 0L;
+        region.lastCorruptionEvent[index] = 0L;
+        region.lastPurificationEvent[index] = 0L;
+
+        dropIfEmpty(chunkKey, region);
+        return true;
+    }
+
+    int size()
+    {
+        return active.size();
+    }
+
+    /**
+     * @return a uniformly random chunk key with stored corruption; the store must not be empty
+     */
+    long randomKey(final RandomSource random)
+    {
+        return active.keyAt(random.nextInt(active.size()));
+    }
+
+    /**
+     * Picks distinct random chunks eligible for corrupted-biome mutation.
+     *
+     * @return the number of keys written to out
+     */
+    int sampleMutationCandidates(final RandomSource random, final long[] out)
+    {
+        return mutationCandidates.sample(random, out);
+    }
+
+    /**
+     * Picks distinct random chunks eligible for biome purification.
+     *
+     * @return the number of keys written to out
+     */
+    int samplePurificationCandidates(final RandomSource random, final long[] out)
+    {
+        return purificationCandidates.sample(random, out);
+    }
+
+    /**
+     * @return a snapshot of every chunk key with stored corruption, in tile order
+     */
+    long[] copyCorruptedKeys()
+    {
+        final long[] keys = new long[active.size()];
+        int n = 0;
+
+        final ObjectIterator<Region> it = regions.values().iterator();
+        while (it.hasNext())
+        {
+            final Region region = it.next();
+            if (region.presentCount == 0) continue;
+
+            n = collect(region, region.present, keys, n);
+        }
+
+        return keys;
+    }
+
+    // -------------------------
+    // Mutated biome flags
+    // -------------------------
+
+    boolean isMutated(final long chunkKey)
+    {
+        final Region region = region(chunkKey, false);
+        return region != null && region.isMutated(localIndex(chunkKey));
+    }
+
+    /**
+     * @return true if the flag was newly set
+     */
+    boolean markMutated(final long chunkKey)
+    {
+        final Region region = region(chunkKey, true);
+        final int index = localIndex(chunkKey);
+        if (region.isMutated(index)) return false;
+
+        region.mutated[index >>> 6] |= 1L << index;
+        region.mutatedCount++;
+        mutatedSize++;
+        mutationCandidates.remove(chunkKey);
+        changed.add(chunkKey);
+        return true;
+    }
+
+    /**
+     * @return true if the flag was previously set
+     */
+    boolean clearMutated(final long chunkKey)
+    {
+        final Region region = region(chunkKey, false);
+        if (region == null) return false;
+
+        final int index = localIndex(chunkKey);
+        if (!region.isMutated(index)) return false;
+
+        region.mutated[index >>> 6] &= ~(1L << index);
+        region.mutatedCount--;
+        mutatedSize--;
+        changed.add(chunkKey);
+        if (region.isPresent(index)) reindex(chunkKey, region, index);
+
+        dropIfEmpty(chunkKey, region);
+        return true;
+    }
+
+    /**
+     * @return a snapshot of every chunk key flagged as biome-mutated
+     */
+    long[] copyMutatedKeys()
+    {
+        final long[] keys = new long[mutatedSize];
+        int n = 0;
+
+        final ObjectIterator<Region> it = regions.values().iterator();
+        while (it.hasNext())
+        {
+            final Region region = it.next();
+            if (region.mutatedCount == 0) continue;
+
+            n = collect(region, region.mutated, keys, n);
+        }
+
+        return keys;
+    }
+
+    /**
+     * @return every chunk whose value or mutated flag changed since the last drain; the change set is then emptied
+     */
+    long[] drainChanged()
+    {
+        final long[] keys = changed.toLongArray();
+        changed.clear();
+        return keys;
+    }
+
+    void discardChanged()
+    {
+        changed.clear();
+    }
+
+    void clear()
+    {
+        // Everything currently stored is about to read as 0 / unmutated.
+        for (final long key : copyCorruptedKeys()) changed.add(key);
+        for (final long key : copyMutatedKeys()) changed.add(key);
+
+        regions.clear();
+        active.clear();
+        mutationCandidates.clear();
+        purificationCandidates.clear();
+        mutatedSize = 0;
+        cachedRegion = null;
+        cachedRegionKey = Long.MIN_VALUE;
+    }
+
+    /**
+     * Re-evaluates the biome transition candidate indexes for a chunk with stored corruption.
+     * Mirrors the per-chunk eligibility rules in {@link ChunkCorruptionSystem}; the stage gate is applied there.
+     */
+    private void reindex(final long chunkKey, final Region region, final int index)
+    {
+        final int value = region.corruption[index];
+
+        mutationCandidates.update(chunkKey,
+            !region.isMutated(index) && ChunkCorruptionSystem.exceedsBiomeConversionThreshold(value));
+
+        final long lastPurification = region.lastPurificationEvent[index];
+        purificationCandidates.update(chunkKey,
+            value < ChunkCorruptionSystem.STANDARD_CORRUPTION_THRESHOLD
+                && lastPurification > 0L
+                && lastPurification > region.lastCorruptionEvent[index]);
+    }
+
+    private static int collect(final Region region, final long[] bits, final long[] out, int n)
+    {
+        for (int word = 0; word < BITSET_WORDS; word++)
+        {
+            long w = bits[word];
+            while (w != 0L)
+            {
+                final int index = (word << 6) | Long.numberOfTrailingZeros(w);
+                out[n++] = region.chunkKey(index);
+                w &= w - 1L;
+            }
+        }
+
+        return n;
+    }
+}
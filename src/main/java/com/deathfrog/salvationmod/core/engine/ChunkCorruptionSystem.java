@@ -1,8 +1,8 @@
 package com.deathfrog.salvationmod.core.engine;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.WeakHashMap;
 
 import javax.annotation.Nonnull;
 
@@ -13,12 +13,8 @@ import com.deathfrog.mctradepost.api.util.TraceUtils;
 import com.deathfrog.salvationmod.ModCommands;
 import com.deathfrog.salvationmod.ModDimensions;
 import com.deathfrog.salvationmod.core.blockentity.PurificationBeaconCoreBlockEntity;
-import com.deathfrog.salvationmod.core.colony.SalvationColonyHandler;
 import com.deathfrog.salvationmod.core.engine.SalvationSavedData.ProgressionSource;
 import com.deathfrog.salvationmod.Config;
-import com.minecolonies.api.colony.IColony;
-import com.minecolonies.api.colony.IColonyManager;
-import com.minecolonies.api.util.ColonyUtils;
 import com.mojang.logging.LogUtils;
 
 import net.minecraft.core.BlockPos;
@@ -35,7 +31,6 @@ import net.minecraft.sounds.SoundEvent;
 import net.minecraft.util.Mth;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.biome.Biome;
-import net.minecraft.world.level.chunk.LevelChunk;
 
 /**
  * Spatial corruption layer (per-dimension, per-chunk).
@@ -101,6 +96,33 @@ public final class ChunkCorruptionSystem
     /** Maximum number of chunk biome mutations attempted per corruption tick. */
     public static final int BIOME_MUTATION_BUDGET = 2;
 
+    /**
+     * Snapshot of the sliced decay pass for a level.
+     *
+     * @param chunksPerPass corrupted chunks visited by the last completed pass
+     * @param ticksPerPass corruption ticks the last completed pass was spread over (also its decay multiplier)
+     * @param lastSliceNanos wall time of the most recent slice
+     * @param lastPassNanos summed wall time of all slices in the last completed pass
+     */
+    public record DecayPassMetrics(int chunksPerPass, int ticksPerPass, long lastSliceNanos, long lastPassNanos) {}
+
+    private static final long[] EMPTY_KEYS = new long[0];
+
+    /** Rotating decay cursor and pass timing for one level. Transient; a restart simply begins a new pass. */
+    private static final class DecayCursor
+    {
+        // Keys of the current rotation, captured when it starts; walked downwards from slot.
+        private long[] keys = EMPTY_KEYS;
+        private int slot = -1;
+        private int scale = 1;
+        private int passChunks = 0;
+        private int passTicks = 0;
+        private long passNanos = 0L;
+        private DecayPassMetrics metrics = new DecayPassMetrics(0, 0, 0L, 0L);
+    }
+
+    private static final WeakHashMap<ServerLevel, DecayCursor> DECAY_CURSORS = new WeakHashMap<>();
+
     /**
      * Called from SalvationManager.salvationLogicLoop(level) (about once per second).
      */
@@ -150,7 +172,11 @@ public final class ChunkCorruptionSystem
     {
         if (level == null || level.isClientSide || pos == null || delta <= 0) return;
         final SalvationSavedData data = SalvationSavedData.get(level);
-        addChunkCorruption(data, chunkKey(pos), -delta, level.getGameTime(), source);
+        final long key = chunkKey(pos);
+        addChunkCorruption(data, key, -delta, level.getGameTime(), source);
+
+        // Blighted chunks enter the revert schedule as soon as they are purified.
+        BlightSurfaceSystem.onPurificationEvent(level, key);
     }
 
     // ---------------------------------------------------------------------
@@ -282,6 +308,10 @@ public final class ChunkCorruptionSystem
      * If the corruption level falls at or below {@link #EVICT_AT_OR_BELOW}, the entry is removed.
      * Otherwise, the decayed value is stored without marking the chunk as "touched".
      * 
+     * The pass is sliced: each call visits at most {@link Config#corruptionDecaySliceSize} chunks, walking a
+     * rotating cursor over a snapshot of the store's keys taken when the rotation starts. A full rotation takes N calls, so each visited chunk receives N times the
+     * per-tick decay and the overall rate matches a full pass every tick.
+     * 
      * @param level the level to decay and evict
      * @param data the salvation data for the level
      * @param stage the current world stage
@@ -307,10 +337,30 @@ public final class ChunkCorruptionSystem
             baseDecay = -BASE_DECAY_PER_TICK;
         }
 
-        // Snapshot keys to avoid concurrent modification.
-        final long[] keys = data.copyCorruptedChunkKeys();
-        for (long key : keys)
+        final DecayCursor cursor = DECAY_CURSORS.computeIfAbsent(level, l -> new DecayCursor());
+        final int count = data.getCorruptedChunkCount();
+        if (count == 0) return;
+
+        final int sliceSize = Math.max(1, Config.corruptionDecaySliceSize.get());
+        final long sliceStart = System.nanoTime();
+
+        if (cursor.slot < 0)
+        {
+            // Start a new rotation; its length in ticks is the multiplier each chunk's decay receives.
+            // The rotation walks a snapshot of the keys: removals elsewhere (purification, eviction) swap-remove in the
+            // live index and could move an already visited key into an unvisited slot, decaying it twice.
+            // Chunks corrupted after the snapshot wait for the next rotation.
+            cursor.keys = data.copyCorruptedChunkKeys();
+            cursor.slot = cursor.keys.length - 1;
+            cursor.scale = Math.max(1, (cursor.keys.length + sliceSize - 1) / sliceSize);
+        }
+
+        final int sliceEnd = Math.max(-1, cursor.slot - sliceSize);
+        for (; cursor.slot > sliceEnd; cursor.slot--)
         {
+            final long key = cursor.keys[cursor.slot];
+            cursor.passChunks++;
+
             final int cur = data.getChunkCorruption(key);
             if (cur <= 0)
             {
@@ -338,7 +388,7 @@ public final class ChunkCorruptionSystem
             int decay = baseDecay;
             if (stale) decay += 2; // faster cleanup of old regions
 
-            final int next = cur - decay;
+            final int next = clampCorruption(cur - decay * cursor.scale);
             if (next <= EVICT_AT_OR_BELOW)
             {
                 data.removeChunkCorruption(key);
@@ -349,6 +399,37 @@ public final class ChunkCorruptionSystem
                 data.setChunkCorruptionRaw(key, next);
             }
         }
+
+        final long sliceNanos = System.nanoTime() - sliceStart;
+        cursor.passNanos += sliceNanos;
+        cursor.passTicks++;
+
+        if (cursor.slot < 0)
+        {
+            cursor.metrics = new DecayPassMetrics(cursor.passChunks, cursor.passTicks, sliceNanos, cursor.passNanos);
+            cursor.keys = EMPTY_KEYS;
+            cursor.passChunks = 0;
+            cursor.passTicks = 0;
+            cursor.passNanos = 0L;
+
+            final DecayPassMetrics metrics = cursor.metrics;
+            TraceUtils.dynamicTrace(ModCommands.TRACE_CORRUPTION, () -> LOGGER.info("Decay pass in {} visited {} chunks over {} ticks in {} µs.",
+                level.dimension().location(), metrics.chunksPerPass(), metrics.ticksPerPass(), metrics.lastPassNanos() / 1_000L));
+        }
+        else
+        {
+            final DecayPassMetrics previous = cursor.metrics;
+            cursor.metrics = new DecayPassMetrics(previous.chunksPerPass(), previous.ticksPerPass(), sliceNanos, previous.lastPassNanos());
+        }
+    }
+
+    /**
+     * @return timing of the sliced decay pass for the level (all zero until the first pass completes)
+     */
+    public static DecayPassMetrics decayPassMetrics(final ServerLevel level)
+    {
+        final DecayCursor cursor = DECAY_CURSORS.get(level);
+        return cursor == null ? new DecayPassMetrics(0, 0, 0L, 0L) : cursor.metrics;
     }
 
     /**
@@ -367,14 +448,12 @@ public final class ChunkCorruptionSystem
         final int budget = spreadBudget(stage);
         if (budget <= 0) return;
 
-        // Gather potential sources (sparse and cheap; we already have a snapshot array).
-        final long[] keys = data.copyCorruptedChunkKeys();
-        if (keys.length == 0) return;
-
         for (int i = 0; i < budget; i++)
         {
+            if (data.getCorruptedChunkCount() == 0) return;
+
             // Pick random source; skip weak sources.
-            final long sourceKey = keys[level.random.nextInt(keys.length)];
+            final long sourceKey = data.getRandomCorruptedChunkKey(NullnessBridge.assumeNonnull(level.random));
             final int sourceVal = data.getChunkCorruption(sourceKey);
             if (sourceVal < ACTIVE_THRESHOLD) continue;
 
@@ -400,7 +479,7 @@ public final class ChunkCorruptionSystem
             final long dstKey = dst.toLong();
 
             final int add = spreadAmount(stage, level.random);
-            if (PurificationBeaconCoreBlockEntity.hasShieldingBeaconInChunk(level, dst))
+            if (PurificationBeaconCoreBlockEntity.hasShieldingBeaconInChunk(level, dstKey))
             {
                 TraceUtils.dynamicTrace(ModCommands.TRACE_CORRUPTION, () -> LOGGER.info("Ignoring spread corruption into chunk {} because it contains a shielding beacon.", dst));
                 continue;
@@ -504,39 +583,12 @@ public final class ChunkCorruptionSystem
             return;
         }
 
-        final long[] keys = data.copyCorruptedChunkKeys();
-        if (keys.length == 0)
-        {
-            return;
-        }
-
-        final List<Long> eligibleChunks = new ArrayList<>();
-        for (long key : keys)
-        {
-            if (data.hasMutatedCorruptedBiomeChunk(key))
-            {
-                continue;
-            }
-
-            if (!exceedsBiomeConversionThreshold(data.getChunkCorruption(key)))
-            {
-                continue;
-            }
-
-            eligibleChunks.add(key);
-        }
-
-        if (eligibleChunks.isEmpty())
-        {
-            return;
-        }
-
-        final int attempts = Math.min(BIOME_MUTATION_BUDGET, eligibleChunks.size());
+        // Candidates (over the conversion threshold, not yet mutated) are indexed as chunk values change.
+        final long[] picks = new long[BIOME_MUTATION_BUDGET];
+        final int attempts = data.sampleBiomeMutationCandidates(NullnessBridge.assumeNonnull(level.random), picks);
         for (int i = 0; i < attempts; i++)
         {
-            final int pick = level.random.nextInt(eligibleChunks.size());
-            final long chunkKey = eligibleChunks.remove(pick);
-            tryApplyCorruptedBiomeMutation(level, data, biomeRegistry, chunkKey);
+            tryApplyCorruptedBiomeMutation(level, data, biomeRegistry, picks[i]);
         }
     }
 
@@ -547,45 +599,12 @@ public final class ChunkCorruptionSystem
         final SalvationSavedData data,
         final HolderLookup.RegistryLookup<Biome> biomeRegistry)
     {
-        final long[] keys = data.copyCorruptedChunkKeys();
-        if (keys.length == 0)
-        {
-            return;
-        }
-
-        final List<Long> eligibleChunks = new ArrayList<>();
-        for (long key : keys)
-        {
-            if (data.getChunkCorruption(key) >= STANDARD_CORRUPTION_THRESHOLD)
-            {
-                continue;
-            }
-
-            final long lastPurificationEvent = data.getLastPurificationEvent(key);
-            if (lastPurificationEvent <= 0L)
-            {
-                continue;
-            }
-
-            if (lastPurificationEvent <= data.getLastCorruptionEvent(key))
-            {
-                continue;
-            }
-
-            eligibleChunks.add(key);
-        }
-
-        if (eligibleChunks.isEmpty())
-        {
-            return;
-        }
-
-        final int attempts = Math.min(BIOME_MUTATION_BUDGET, eligibleChunks.size());
+        // Candidates (below the standard threshold, most recent event a purification) are indexed as chunk values change.
+        final long[] picks = new long[BIOME_MUTATION_BUDGET];
+        final int attempts = data.sampleBiomePurificationCandidates(NullnessBridge.assumeNonnull(level.random), picks);
         for (int i = 0; i < attempts; i++)
         {
-            final int pick = level.random.nextInt(eligibleChunks.size());
-            final long chunkKey = eligibleChunks.remove(pick);
-            tryApplyPurifiedBiomeMutation(level, data, biomeRegistry, chunkKey);
+            tryApplyPurifiedBiomeMutation(level, data, biomeRegistry, picks[i]);
         }
     }
 
@@ -854,13 +873,13 @@ public final class ChunkCorruptionSystem
         return new ChunkPos(pos).toLong();
     }
 
-    private static Holder<Biome> getChunkCenterBiome(final ServerLevel level, final ChunkPos chunkPos)
+    static Holder<Biome> getChunkCenterBiome(final ServerLevel level, final ChunkPos chunkPos)
     {
         final BlockPos centerPos = new BlockPos(chunkPos.getMiddleBlockX(), level.getMinBuildHeight(), chunkPos.getMiddleBlockZ());
         return level.getBiome(centerPos);
     }
 
-    private static ResourceLocation getBiomeId(final Holder<Biome> biomeHolder)
+    static ResourceLocation getBiomeId(final Holder<Biome> biomeHolder)
     {
         if (biomeHolder == null)
         {
@@ -934,22 +953,21 @@ public final class ChunkCorruptionSystem
 
         if (level == null) return;
 
-        ChunkPos chunkPos = new ChunkPos(chunkKey);
-        final LevelChunk thisChunk = new LevelChunk(level, chunkPos);
-        final IColony owningColony = IColonyManager.getInstance().getColonyByWorld(ColonyUtils.getOwningColony(thisChunk), data.getLevelForSave());
+        // Ownership, purified biome and immunity research come from one cached probe.
+        final long chunkInfo = ChunkColonyCache.lookup(level, chunkKey);
 
         int impact = delta;
 
-        if (impact > 0 && isChunkProtectedFromCorruption(level, chunkPos))
+        if (impact > 0 && ChunkColonyCache.isPurified(chunkInfo))
         {
             TraceUtils.dynamicTrace(ModCommands.TRACE_CORRUPTION, () -> LOGGER.info("Ignoring positive corruption change from {} for chunk {} because its biome is purified.",
-                source, chunkPos));
+                source, new ChunkPos(chunkKey)));
             return;
         }
 
-        if (owningColony != null && delta > 0)
+        if (ChunkColonyCache.owningColonyId(chunkInfo) != 0 && delta > 0)
         {
-            corruptionProtection = owningColony.getResearchManager().getResearchEffects().getEffectStrength(SalvationColonyHandler.RESEARCH_IMMUNITY);
+            corruptionProtection = ChunkColonyCache.immunityStrength(chunkInfo);
             impact = (int) (delta * (1 - corruptionProtection));  
         }
 
@@ -969,11 +987,4 @@ public final class ChunkCorruptionSystem
 
         data.setChunkCorruption(chunkKey, next, gameTime);
     }
-
-    private static boolean isChunkProtectedFromCorruption(final ServerLevel level, final ChunkPos chunkPos)
-    {
-        final BiomeMappingsManager mappings = BiomeMappingsManager.get();
-        final ResourceLocation currentBiomeId = getBiomeId(getChunkCenterBiome(level, chunkPos));
-        return currentBiomeId != null && mappings.isPurifiedBiome(currentBiomeId);
-    }
 }
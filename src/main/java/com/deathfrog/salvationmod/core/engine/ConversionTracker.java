@@ -0,0 +1,197 @@
+package com.deathfrog.salvationmod.core.engine;
+
+import java.util.ArrayList;
+import java.util.WeakHashMap;
+
+import javax.annotation.Nonnull;
+
+import com.deathfrog.salvationmod.ModAttachments;
+import com.deathfrog.salvationmod.ModAttachments.ConversionData;
+import com.deathfrog.salvationmod.SalvationMod;
+import com.deathfrog.salvationmod.core.entity.ai.workers.minimal.EntityAIRefugeeWanderTask;
+import com.minecolonies.core.entity.visitor.VisitorCitizen;
+
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.entity.Entity;
+import net.minecraft.world.entity.LivingEntity;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.attachment.AttachmentType;
+import net.neoforged.neoforge.event.entity.EntityJoinLevelEvent;
+import net.neoforged.neoforge.event.level.LevelEvent;
+import net.neoforged.neoforge.event.tick.LevelTickEvent;
+
+/**
+ * Per-level registry of the living entities with a conversion in progress, replacing a per-entity tick handler.
+ *
+ * Entities enter the registry from {@link EntityConversion#startConversion} or, for conversions restored from disk,
+ * when they join the level; only those entities are ticked, so mobs that never convert cost nothing per tick and never
+ * receive a default conversion attachment. The countdown lives in the (mutable) attachment itself and is decremented
+ * in place, so the attachment is only written out when the entity is saved.
+ *
+ * Entities that unload, die or finish converting are dropped lazily on the next tick. Persisted refugee visitors are
+ * queued here on join until their wander task can be reinstalled, instead of being checked on every citizen tick.
+ */
+@EventBusSubscriber(modid = SalvationMod.MODID)
+public final class ConversionTracker
+{
+    private ConversionTracker() {}
+
+    /** Conversion visual feedback interval, in entity ticks. */
+    private static final int TICK_FX_INTERVAL = 5;
+
+    private static final class LevelConversions
+    {
+        private final ArrayList<LivingEntity> active = new ArrayList<>();
+        private final ReferenceOpenHashSet<LivingEntity> members = new ReferenceOpenHashSet<>();
+        private final ArrayList<VisitorCitizen> rehydrating = new ArrayList<>();
+    }
+
+    // Values hold entities (which reference their level), so entries are dropped explicitly on level unload.
+    private static final WeakHashMap<ServerLevel, LevelConversions> CONVERSIONS = new WeakHashMap<>();
+
+    /**
+     * @return true if the entity has a conversion in progress; does not attach conversion data to entities without it
+     */
+    public static boolean isConverting(@Nonnull final LivingEntity entity)
+    {
+        final AttachmentType<ConversionData> attachmentType = ModAttachments.CONVERSION.get();
+        return attachmentType != null && entity.hasData(attachmentType) && entity.getData(attachmentType).ticksRemaining() > 0;
+    }
+
+    /**
+     * Starts ticking the conversion of the entity. Registering an entity that is already tracked has no effect.
+     */
+    static void track(@Nonnull final ServerLevel level, @Nonnull final LivingEntity entity)
+    {
+        final LevelConversions conversions = CONVERSIONS.computeIfAbsent(level, l -> new LevelConversions());
+
+        if (conversions.members.add(entity))
+        {
+            conversions.active.add(entity);
+        }
+    }
+
+    /**
+     * Picks up conversions restored from disk and persisted refugees that need their wander task reinstalled.
+     */
+    @SubscribeEvent
+    public static void onEntityJoinLevel(final EntityJoinLevelEvent event)
+    {
+        if (!(event.getLevel() instanceof ServerLevel level)) return;
+
+        final Entity entity = event.getEntity();
+
+        if (entity instanceof VisitorCitizen visitor)
+        {
+            final AttachmentType<ModAttachments.RefugeeWanderData> wanderType = ModAttachments.REFUGEE_WANDER.get();
+            if (wanderType != null && visitor.hasData(wanderType) && visitor.getData(wanderType).enabled())
+            {
+                CONVERSIONS.computeIfAbsent(level, l -> new LevelConversions()).rehydrating.add(visitor);
+            }
+        }
+
+        if (entity instanceof LivingEntity living && isConverting(living))
+        {
+            track(level, living);
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelTick(final LevelTickEvent.Post event)
+    {
+        if (!(event.getLevel() instanceof ServerLevel level)) return;
+
+        final LevelConversions conversions = CONVERSIONS.get(level);
+        if (conversions == null) return;
+
+        if (!conversions.rehydrating.isEmpty())
+        {
+            tickRehydration(level, conversions.rehydrating);
+        }
+
+        if (conversions.active.isEmpty()) return;
+
+        final AttachmentType<ConversionData> attachmentType = ModAttachments.CONVERSION.get();
+        if (attachmentType == null) return;
+
+        final ArrayList<LivingEntity> active = conversions.active;
+
+        // Walk backwards with swap-removal: an entry moved into a visited slot, or tracked during this pass, waits for the next tick.
+        for (int i = active.size() - 1; i >= 0; i--)
+        {
+            final LivingEntity entity = active.get(i);
+
+            if (entity.isRemoved() || entity.level() != level || !entity.hasData(attachmentType))
+            {
+                drop(conversions, i);
+                continue;
+            }
+
+            // Conversions only advance while the entity itself would tick.
+            if (!level.isPositionEntityTicking(entity.blockPosition())) continue;
+
+            final ConversionData data = entity.getData(attachmentType);
+            if (data.ticksRemaining() <= 0)
+            {
+                drop(conversions, i);
+                continue;
+            }
+
+            final boolean isCleansing = data.isCleansing();
+
+            // Finished converting → convert (do this BEFORE TICK FX)
+            if (data.countDown() <= 0)
+            {
+                drop(conversions, i);
+                EntityConversion.finishConversion(level, entity, isCleansing);
+                continue;
+            }
+
+            // Visual feedback every few ticks (while still converting)
+            if ((entity.tickCount % TICK_FX_INTERVAL) == 0)
+            {
+                EntityConversion.playConversionEffects(level, entity, EntityConversion.ConversionFxPhase.TICK, isCleansing);
+            }
+        }
+    }
+
+    @SubscribeEvent
+    public static void onLevelUnload(final LevelEvent.Unload event)
+    {
+        if (event.getLevel() instanceof ServerLevel level)
+        {
+            CONVERSIONS.remove(level);
+        }
+    }
+
+    private static void drop(final LevelConversions conversions, final int index)
+    {
+        final ArrayList<LivingEntity> active = conversions.active;
+        final LivingEntity removed = active.get(index);
+        final int last = active.size() - 1;
+
+        active.set(index, active.get(last));
+        active.remove(last);
+        conversions.members.remove(removed);
+    }
+
+    /**
+     * Retries refugee rehydration until the visitor's colony data is bound, then forgets the visitor.
+     */
+    private static void tickRehydration(final ServerLevel level, final ArrayList<VisitorCitizen> rehydrating)
+    {
+        for (int i = rehydrating.size() - 1; i >= 0; i--)
+        {
+            final VisitorCitizen visitor = rehydrating.get(i);
+
+            if (visitor.isRemoved() || visitor.level() != level || EntityAIRefugeeWanderTask.tryRehydrate(visitor))
+            {
+                final int last = rehydrating.size() - 1;
+                rehydrating.set(i, rehydrating.get(last));
+                rehydrating.remove(last);
+            }
+        }
+    }
+}
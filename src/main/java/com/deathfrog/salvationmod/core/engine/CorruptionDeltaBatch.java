@@ -0,0 +1,263 @@
+package com.deathfrog.salvationmod.core.engine;
+
+import java.util.WeakHashMap;
+
+import javax.annotation.Nonnull;
+
+import org.slf4j.Logger;
+
+import com.deathfrog.mctradepost.api.util.TraceUtils;
+import com.deathfrog.salvationmod.Config;
+import com.deathfrog.salvationmod.ModCommands;
+import com.deathfrog.salvationmod.SalvationMod;
+import com.deathfrog.salvationmod.core.colony.SalvationColonyHandler;
+import com.deathfrog.salvationmod.core.engine.SalvationSavedData.ProgressionSource;
+import com.minecolonies.api.colony.IColony;
+import com.minecolonies.api.colony.IColonyManager;
+import com.mojang.logging.LogUtils;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.server.ServerStoppingEvent;
+
+/**
+ * Deferred accumulator for {@link SalvationManager#recordCorruption} when batching is enabled
+ * ({@link com.deathfrog.salvationmod.Config#batchCorruptionUpdates}).
+ *
+ * Deltas are summed per level into primitive arrays: global progression per source, and per chunk the
+ * corruption and purification per source. Colony ownership is claim-based and therefore chunk-granular,
+ * so the owning colony is resolved once per chunk at flush time rather than once per event.
+ *
+ * {@link #flush} runs at the start of each salvation loop. It applies all progression at once with a
+ * single stage-transition check, then one chunk corruption update, one effect and one colony credit per chunk.
+ *
+ * Beacon pulses always use a separate per-tick accumulator ({@link #accumulatePulse}), regardless of the batching
+ * setting: overlapping pulses from beacons due in the same tick are merged per chunk and applied by
+ * {@link #flushPulses} at the end of that tick, with a single progression delta for the tick.
+ */
+@EventBusSubscriber(modid = SalvationMod.MODID)
+public final class CorruptionDeltaBatch
+{
+    private CorruptionDeltaBatch() {}
+
+    public static final Logger LOGGER = LogUtils.getLogger();
+
+    private static final ProgressionSource[] SOURCES = ProgressionSource.values();
+
+    private static final WeakHashMap<ServerLevel, LevelBatch> BATCHES = new WeakHashMap<>();
+    private static final WeakHashMap<ServerLevel, LevelBatch> PULSES = new WeakHashMap<>();
+
+    private static final class ChunkDeltas
+    {
+        // Most recent position recorded in the chunk; used for effects and colony lookup.
+        private long lastPos;
+        private final int[] corruption = new int[SOURCES.length];
+        private final int[] purification = new int[SOURCES.length];
+    }
+
+    private static final class LevelBatch
+    {
+        private final long[] progression = new long[SOURCES.length];
+        private final Long2ObjectOpenHashMap<ChunkDeltas> chunks = new Long2ObjectOpenHashMap<>();
+        private int events = 0;
+    }
+
+    /**
+     * Queues a corruption (positive) or purification (negative) amount for the next flush.
+     *
+     * @param pos the position of the event, or null for a global-only progression change
+     */
+    public static void enqueue(@Nonnull final ServerLevel level, @Nonnull final ProgressionSource source, final BlockPos pos, final int amount)
+    {
+        if (amount == 0) return;
+
+        add(BATCHES.computeIfAbsent(level, l -> new LevelBatch()), source, pos, amount);
+    }
+
+    /**
+     * Adds a beacon pulse contribution to the current tick's accumulator, merged with other pulses hitting the same chunk.
+     * Applied by {@link #flushPulses} at the end of the tick.
+     */
+    public static void accumulatePulse(@Nonnull final ServerLevel level, @Nonnull final ProgressionSource source, @Nonnull final BlockPos pos, final int amount)
+    {
+        final Boolean corruptionDisabled = Config.corruptionDisabled.get();
+        if (amount == 0 || (corruptionDisabled != null && corruptionDisabled)) return;
+
+        add(PULSES.computeIfAbsent(level, l -> new LevelBatch()), source, pos, amount);
+    }
+
+    private static void add(final LevelBatch batch, final ProgressionSource source, final BlockPos pos, final int amount)
+    {
+        final int sourceIndex = source.ordinal();
+
+        batch.progression[sourceIndex] += amount;
+        batch.events++;
+
+        if (pos == null) return;
+
+        final long chunkKey = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+        ChunkDeltas deltas = batch.chunks.get(chunkKey);
+        if (deltas == null)
+        {
+            deltas = new ChunkDeltas();
+            batch.chunks.put(chunkKey, deltas);
+        }
+
+        deltas.lastPos = pos.asLong();
+
+        if (amount > 0)
+        {
+            deltas.corruption[sourceIndex] += amount;
+        }
+        else
+        {
+            deltas.purification[sourceIndex] -= amount;
+        }
+    }
+
+    /**
+     * Applies every queued delta for the level. Safe to call when nothing is queued.
+     */
+    public static void flush(@Nonnull final ServerLevel level)
+    {
+        apply(level, BATCHES.remove(level));
+    }
+
+    /**
+     * Applies the beacon pulses accumulated this tick for the level. Safe to call when nothing is queued.
+     */
+    public static void flushPulses(@Nonnull final ServerLevel level)
+    {
+        apply(level, PULSES.remove(level));
+    }
+
+    private static void apply(final ServerLevel level, final LevelBatch batch)
+    {
+        if (batch == null || batch.events == 0) return;
+
+        final SalvationSavedData data = SalvationSavedData.get(level);
+        final int events = batch.events;
+        final int chunkCount = batch.chunks.size();
+        TraceUtils.dynamicTrace(ModCommands.TRACE_CORRUPTION, () -> LOGGER.info("Flushing {} batched corruption events across {} chunks in {}.",
+            events, chunkCount, level.dimension().location()));
+
+        // After the cycle ends global progression is frozen and only purification still acts on chunks.
+        final boolean cycleEnded = SalvationManager.isCorruptionCycleEnded(level);
+        if (!cycleEnded)
+        {
+            applyProgression(level, data, batch);
+        }
+
+        final ObjectIterator<Long2ObjectMap.Entry<ChunkDeltas>> it = batch.chunks.long2ObjectEntrySet().fastIterator();
+        while (it.hasNext())
+        {
+            applyChunk(level, it.next().getValue(), !cycleEnded);
+        }
+    }
+
+    /**
+     * Flushes and drops the batch of every level. Called before the server saves on shutdown.
+     */
+    @SubscribeEvent
+    public static void onServerStopping(final ServerStoppingEvent event)
+    {
+        for (final ServerLevel level : event.getServer().getAllLevels())
+        {
+            if (level != null)
+            {
+                flushPulses(level);
+                flush(level);
+            }
+        }
+
+        PULSES.clear();
+        BATCHES.clear();
+    }
+
+    private static void applyProgression(final ServerLevel level, final SalvationSavedData data, final LevelBatch batch)
+    {
+        final CorruptionStage previousStage = SalvationManager.stageForLevel(level);
+
+        long totalDelta = 0L;
+        ProgressionSource dominantSource = ProgressionSource.DEFAULT;
+        long dominantMagnitude = -1L;
+
+        for (int i = 0; i < SOURCES.length; i++)
+        {
+            final long delta = batch.progression[i];
+            if (delta == 0L) continue;
+
+            data.addProgress(SOURCES[i], delta);
+            totalDelta += delta;
+
+            if (Math.abs(delta) > dominantMagnitude)
+            {
+                dominantMagnitude = Math.abs(delta);
+                dominantSource = SOURCES[i];
+            }
+        }
+
+        final CorruptionStage currentStage = SalvationManager.stageForLevel(level);
+        data.recordStageChange(previousStage, currentStage, level.getGameTime(), dominantSource, totalDelta);
+        SalvationManager.broadcastStageTransition(level, previousStage, currentStage);
+    }
+
+    private static void applyChunk(final ServerLevel level, final ChunkDeltas deltas, final boolean applyCorruption)
+    {
+        final BlockPos pos = BlockPos.of(deltas.lastPos);
+
+        int totalPurification = 0;
+        int totalCorruption = 0;
+        ProgressionSource effectSource = ProgressionSource.DEFAULT;
+        int effectSourceAmount = 0;
+
+        for (int i = 0; i < SOURCES.length; i++)
+        {
+            final int purification = deltas.purification[i];
+            if (purification > 0)
+            {
+                ChunkCorruptionSystem.onPurifyingAction(level, pos, purification, SOURCES[i]);
+                totalPurification += purification;
+            }
+
+            final int corruption = applyCorruption ? deltas.corruption[i] : 0;
+            if (corruption > 0)
+            {
+                ChunkCorruptionSystem.onCorruptingAction(level, pos, corruption, SOURCES[i]);
+                totalCorruption += corruption;
+
+                if (corruption > effectSourceAmount)
+                {
+                    effectSourceAmount = corruption;
+                    effectSource = SOURCES[i];
+                }
+            }
+        }
+
+        if (totalPurification > 0)
+        {
+            SalvationManager.purificationEffect(level, pos, Math.min(totalPurification, SalvationManager.MAX_AGGREGATED_EFFECT_MAGNITUDE));
+        }
+
+        if (totalCorruption > 0)
+        {
+            SalvationManager.corruptionEffect(level, pos, effectSource, Math.min(totalCorruption, SalvationManager.MAX_AGGREGATED_EFFECT_MAGNITUDE));
+        }
+
+        if (totalPurification <= 0 && totalCorruption <= 0) return;
+
+        final IColony colony = IColonyManager.getInstance().getIColony(level, pos);
+        if (colony != null)
+        {
+            final SalvationColonyHandler handler = SalvationColonyHandler.getHandler(level, colony);
+            if (totalPurification > 0) handler.addPurificationCredits(totalPurification);
+            if (totalCorruption > 0) handler.addCorruptionContribution(totalCorruption);
+        }
+    }
+}
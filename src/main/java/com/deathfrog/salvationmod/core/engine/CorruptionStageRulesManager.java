@@ -30,6 +30,9 @@ public final class CorruptionStageRulesManager
 
     private volatile StageRulesSnapshot current = DEFAULTS;
 
+    // Bumped on every reload so callers caching threshold-derived values know to recompute.
+    private volatile int generation = 0;
+
     public static CorruptionStageRulesManager get()
     {
         return INSTANCE;
@@ -40,9 +43,18 @@ public final class CorruptionStageRulesManager
         return current.rulesFor(stage);
     }
 
+    /**
+     * @return a counter that changes whenever the stage rules are reloaded
+     */
+    public int generation()
+    {
+        return generation;
+    }
+
     private void setSnapshot(final StageRulesSnapshot snapshot)
     {
         this.current = snapshot;
+        this.generation++;
     }
 
     private static StageRulesSnapshot createDefaultSnapshot()
@@ -0,0 +1,138 @@
+package com.deathfrog.salvationmod.core.engine;
+
+import java.util.Arrays;
+
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import net.minecraft.util.RandomSource;
+
+/**
+ * Set of chunk keys packed into a dense array, so membership changes, indexed reads
+ * and uniform random sampling are all O(1) without allocating a snapshot.
+ *
+ * Removal swaps the last key into the vacated slot. Callers iterating by index while removing
+ * should therefore walk from the end towards 0.
+ */
+final class DenseChunkKeySet
+{
+    private long[] keys = new long[16];
+    private int size = 0;
+
+    // chunkKey -> slot in keys (-1 = absent)
+    private final Long2IntOpenHashMap slots = new Long2IntOpenHashMap();
+
+    DenseChunkKeySet()
+    {
+        slots.defaultReturnValue(-1);
+    }
+
+    int size()
+    {
+        return size;
+    }
+
+    boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    boolean contains(final long chunkKey)
+    {
+        return slots.containsKey(chunkKey);
+    }
+
+    long keyAt(final int slot)
+    {
+        return keys[slot];
+    }
+
+    /**
+     * @return true if the key was added
+     */
+    boolean add(final long chunkKey)
+    {
+        if (slots.containsKey(chunkKey)) return false;
+
+        if (size == keys.length)
+        {
+            keys = Arrays.copyOf(keys, size * 2);
+        }
+
+        keys[size] = chunkKey;
+        slots.put(chunkKey, size);
+        size++;
+        return true;
+    }
+
+    /**
+     * @return true if the key was present
+     */
+    boolean remove(final long chunkKey)
+    {
+        final int slot = slots.remove(chunkKey);
+        if (slot < 0) return false;
+
+        final int last = --size;
+        if (slot != last)
+        {
+            final long moved = keys[last];
+            keys[slot] = moved;
+            slots.put(moved, slot);
+        }
+
+        return true;
+    }
+
+    /**
+     * Adds or removes the key so that its membership matches the given flag.
+     */
+    void update(final long chunkKey, final boolean member)
+    {
+        if (member)
+        {
+            add(chunkKey);
+        }
+        else
+        {
+            remove(chunkKey);
+        }
+    }
+
+    /**
+     * Picks up to out.length distinct keys uniformly at random (partial Fisher-Yates over the tail of the array).
+     * The picks are copied out, so the caller may mutate the set while processing them.
+     *
+     * @return the number of keys written to out
+     */
+    int sample(final RandomSource random, final long[] out)
+    {
+        final int picks = Math.min(out.length, size);
+
+        for (int i = 0; i < picks; i++)
+        {
+            final int tail = size - 1 - i;
+            final int pick = random.nextInt(tail + 1);
+            swap(pick, tail);
+            out[i] = keys[tail];
+        }
+
+        return picks;
+    }
+
+    void clear()
+    {
+        slots.clear();
+        size = 0;
+    }
+
+    private void swap(final int a, final int b)
+    {
+        if (a == b) return;
+
+        final long keyA = keys[a];
+        final long keyB = keys[b];
+        keys[a] = keyB;
+        keys[b] = keyA;
+        slots.put(keyB, a);
+        slots.put(keyA, b);
+    }
+}
@@ -428,10 +428,8 @@ public final class EntityConversion
 
         if (dataAttachment == null) return false;
 
-        ConversionData data = entity.getData(dataAttachment);
-
         // already cleansing - do not reset.
-        if (data != null && data.ticksRemaining() > 0) return false; 
+        if (ConversionTracker.isConverting(entity)) return false; 
 
         final Optional<UUID> sourcePlayerUuid = sourcePlayer == null ? Optional.empty() : Optional.of(sourcePlayer.getUUID());
         final Optional<UUID> retaliationTargetUuid = retaliationTarget == null ? Optional.empty() : Optional.of(retaliationTarget.getUUID());
@@ -439,6 +437,7 @@ public final class EntityConversion
             NullnessBridge.assumeNonnull(ModAttachments.CONVERSION),
             new ConversionData(durationTicks, isCleansing, sourcePlayerUuid, retaliationTargetUuid, preserveSourceHealth)
         );
+        ConversionTracker.track(level, entity);
 
         EntityConversion.playConversionEffects(
             level,
@@ -0,0 +1,56 @@
+package com.deathfrog.salvationmod.core.engine;
+
+import javax.annotation.Nonnull;
+
+import com.deathfrog.salvationmod.core.engine.SalvationSavedData.ProgressionSource;
+
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.minecraft.core.BlockPos;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+
+/**
+ * Per-chunk tally of blocks reverted by a single purification (beacon pulse, blightwood purification).
+ *
+ * Each reverted block used to be recorded as its own EXTRACTION event, paying a stage check, chunk corruption update,
+ * colony lookup and particle effect per block. Reverts are counted per chunk instead and recorded once per chunk
+ * touched; colony ownership is claim-based and therefore chunk-granular, so the credit lands in the same place.
+ * The per-chunk particle effect is capped, since it stands in for many single-block effects at one position.
+ */
+final class ExtractionTally
+{
+    // chunkKey -> blocks reverted in the chunk
+    private final Long2IntOpenHashMap counts = new Long2IntOpenHashMap();
+    // chunkKey -> most recent reverted position in the chunk; used for effects and colony lookup
+    private final Long2LongOpenHashMap lastPos = new Long2LongOpenHashMap();
+
+    /**
+     * Counts one reverted block at the given position.
+     */
+    void add(@Nonnull final BlockPos pos)
+    {
+        final long chunkKey = ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4);
+        counts.addTo(chunkKey, 1);
+        lastPos.put(chunkKey, pos.asLong());
+    }
+
+    /**
+     * Records one EXTRACTION purification per chunk touched, then clears the tally.
+     */
+    void record(@Nonnull final ServerLevel level)
+    {
+        final ObjectIterator<Long2IntMap.Entry> it = counts.long2IntEntrySet().fastIterator();
+        while (it.hasNext())
+        {
+            final Long2IntMap.Entry entry = it.next();
+            SalvationManager.recordCorruption(level, ProgressionSource.EXTRACTION, BlockPos.of(lastPos.get(entry.getLongKey())), -entry.getIntValue(),
+                SalvationManager.MAX_AGGREGATED_EFFECT_MAGNITUDE);
+        }
+
+        counts.clear();
+        lastPos.clear();
+    }
+}
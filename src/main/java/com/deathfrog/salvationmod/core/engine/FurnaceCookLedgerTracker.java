@@ -1,9 +1,6 @@
 package com.deathfrog.salvationmod.core.engine;
 
 import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
-import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
-import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
-import it.unimi.dsi.fastutil.longs.LongSet;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.RegistryAccess;
 import net.minecraft.core.registries.BuiltInRegistries;
@@ -32,6 +29,8 @@ import net.neoforged.neoforge.items.IItemHandler;
 import com.deathfrog.mctradepost.api.util.NullnessBridge;
 import com.deathfrog.salvationmod.SalvationMod;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -43,10 +42,15 @@ import javax.annotation.Nullable;
  * Tracks furnace cooking output extraction and (optionally) cook completion.
  *
  * Performance strategy:
- *  - Maintain a set of "active furnace positions" per level.
+ *  - Maintain a slot table of "active furnaces" per level (parallel primitive arrays, one slot per machine).
  *  - Populate that set on chunk load (scan only BE map for the chunk),
- *    plus on neighbor-notify when a furnace becomes lit.
- *  - Poll active set once per second (caller-driven) and detect slot deltas.
+ *    plus on neighbor-notify when a furnace becomes lit (the lit-state change notifies at the furnace's own position).
+ *  - Both discovery paths first check the notified block against the designated furnace block set,
+ *    so unrelated updates (redstone, fluids, crops, builders) cost one identity-set probe.
+ *  - Poll the slot table (caller-driven) and detect slot deltas.
+ *  - Polls read slots in place and only build a full snapshot when a tracked slot changed.
+ *  - Recipe lookups (and the cook time / output-per-craft derived from them) are cached per position,
+ *    keyed by recipe type, input item + components and the RecipeManager instance (replaced on reload).
  *
  * Shutdown safety strategy:
  *  - Immediately disable all hooks on ServerStoppingEvent.
@@ -127,6 +131,22 @@ public final class FurnaceCookLedgerTracker
         ENABLED = true;
     }
 
+    /**
+     * Switches the tracker on or off without dropping its state (used by the benchmark command to compare both).
+     * Has no effect while the server is stopping.
+     *
+     * @return whether the tracker was enabled before the call
+     */
+    public static boolean setEnabled(final boolean enabled)
+    {
+        final boolean previous = ENABLED;
+        if (!STOPPING)
+        {
+            ENABLED = enabled;
+        }
+        return previous;
+    }
+
     /**
      * Optional: late-bind or replace the cook completion sink.
      */
@@ -152,33 +172,166 @@ public final class FurnaceCookLedgerTracker
     /** How long to keep a furnace in the active set after it appears idle. */
     private static final int IDLE_GRACE_TICKS = 20 * 15; // 15 seconds
 
+    // ---- Poll pre-check results ----
+
+    private static final int SLOTS_CHANGED = -1;
+    private static final int UNCHANGED_IDLE = 0;
+    private static final int UNCHANGED_ACTIVE = 1;
+
     // ---- Per-level state ----
 
+    /** Item id stored for an empty slot. */
+    private static final int EMPTY_ITEM = -1;
+
+    /** Count stored before a slot's first observation. */
+    private static final int UNPRIMED = -1;
+
+    /**
+     * Slot-allocated table of tracked machines: one index per furnace, parallel primitive arrays, and a free list.
+     * Item identity is the item's registry raw id. Polling scans the arrays densely; position lookups go through
+     * a single position -> slot map.
+     */
     private static final class LevelState
     {
-        final LongSet active = new LongOpenHashSet();
+        private static final int INITIAL_CAPACITY = 16;
 
-        // result snapshot (for delta detection)
-        final Long2IntOpenHashMap lastResultCount = new Long2IntOpenHashMap();
-        final Long2IntOpenHashMap lastResultItemId = new Long2IntOpenHashMap(); // System.identityHashCode(item)
+        // packed position -> slot (absent = -1)
+        final Long2IntOpenHashMap slotByPos = new Long2IntOpenHashMap();
+
+        // slots [0, highWater) have been handed out; free ones are on the free list
+        int highWater = 0;
+        int[] freeSlots = new int[INITIAL_CAPACITY];
+        int freeCount = 0;
+
+        boolean[] live = new boolean[INITIAL_CAPACITY];
+        BlockPos[] positions = new BlockPos[INITIAL_CAPACITY];
 
         // input snapshot (for cook-completion detection)
-        final Long2IntOpenHashMap lastInputCount = new Long2IntOpenHashMap();
-        final Long2IntOpenHashMap lastInputItemId = new Long2IntOpenHashMap(); // System.identityHashCode(item)
+        int[] inputCount = new int[INITIAL_CAPACITY];
+        int[] inputItem = new int[INITIAL_CAPACITY];
+
+        // result snapshot (for delta detection)
+        int[] resultCount = new int[INITIAL_CAPACITY];
+        int[] resultItem = new int[INITIAL_CAPACITY];
 
         // last time we observed it "active" (lit/cooking/has result/input)
-        final Long2LongOpenHashMap lastActiveTick = new Long2LongOpenHashMap();
+        long[] lastActiveTick = new long[INITIAL_CAPACITY];
+
+        // last recipe resolution (reused while the input item/components are unchanged)
+        RecipeResolution[] recipes = new RecipeResolution[INITIAL_CAPACITY];
+
+        // diagnostics since the machine started being tracked
+        long[] trackedSince = new long[INITIAL_CAPACITY];
+        int[] crafts = new int[INITIAL_CAPACITY];
+        int[] produced = new int[INITIAL_CAPACITY];
+        int[] extracted = new int[INITIAL_CAPACITY];
+        long[] fuelPoints = new long[INITIAL_CAPACITY];
+        long[] corruption = new long[INITIAL_CAPACITY];
 
         LevelState()
         {
-            lastResultCount.defaultReturnValue(-1);
-            lastResultItemId.defaultReturnValue(0);
+            slotByPos.defaultReturnValue(-1);
+        }
 
-            lastInputCount.defaultReturnValue(-1);
-            lastInputItemId.defaultReturnValue(0);
+        int slotOf(final long key)
+        {
+            return slotByPos.get(key);
+        }
 
-            lastActiveTick.defaultReturnValue(0);
+        int size()
+        {
+            return slotByPos.size();
         }
+
+        /**
+         * Hands out a slot for the position with an unprimed snapshot and cleared diagnostics.
+         */
+        int allocate(final BlockPos pos, final long now)
+        {
+            final int slot;
+            if (freeCount > 0)
+            {
+                slot = freeSlots[--freeCount];
+            }
+            else
+            {
+                if (highWater == live.length)
+                {
+                    grow(live.length * 2);
+                }
+                slot = highWater++;
+            }
+
+            live[slot] = true;
+            positions[slot] = pos.immutable();
+            inputCount[slot] = UNPRIMED;
+            inputItem[slot] = EMPTY_ITEM;
+            resultCount[slot] = UNPRIMED;
+            resultItem[slot] = EMPTY_ITEM;
+            lastActiveTick[slot] = now;
+            recipes[slot] = null;
+            trackedSince[slot] = now;
+            crafts[slot] = 0;
+            produced[slot] = 0;
+            extracted[slot] = 0;
+            fuelPoints[slot] = 0L;
+            corruption[slot] = 0L;
+
+            slotByPos.put(pos.asLong(), slot);
+            return slot;
+        }
+
+        void free(final int slot)
+        {
+            if (!live[slot]) return;
+
+            slotByPos.remove(positions[slot].asLong());
+            live[slot] = false;
+            positions[slot] = null;
+            recipes[slot] = null;
+
+            if (freeCount == freeSlots.length)
+            {
+                freeSlots = Arrays.copyOf(freeSlots, freeSlots.length * 2);
+            }
+            freeSlots[freeCount++] = slot;
+        }
+
+        private void grow(final int capacity)
+        {
+            live = Arrays.copyOf(live, capacity);
+            positions = Arrays.copyOf(positions, capacity);
+            inputCount = Arrays.copyOf(inputCount, capacity);
+            inputItem = Arrays.copyOf(inputItem, capacity);
+            resultCount = Arrays.copyOf(resultCount, capacity);
+            resultItem = Arrays.copyOf(resultItem, capacity);
+            lastActiveTick = Arrays.copyOf(lastActiveTick, capacity);
+            recipes = Arrays.copyOf(recipes, capacity);
+            trackedSince = Arrays.copyOf(trackedSince, capacity);
+            crafts = Arrays.copyOf(crafts, capacity);
+            produced = Arrays.copyOf(produced, capacity);
+            extracted = Arrays.copyOf(extracted, capacity);
+            fuelPoints = Arrays.copyOf(fuelPoints, capacity);
+            corruption = Arrays.copyOf(corruption, capacity);
+        }
+    }
+
+    /**
+     * Per-machine diagnostics for a tracked furnace.
+     *
+     * @param trackedTicks game ticks since the machine started being tracked
+     * @param corruption net corruption attributed to the machine's completed cooks (negative = purification)
+     */
+    public record FurnaceStats(
+        BlockPos pos,
+        long trackedTicks,
+        int crafts,
+        int produced,
+        int extracted,
+        long fuelPoints,
+        long corruption
+    )
+    {
     }
 
     private record MachineSnapshot(
@@ -189,9 +342,34 @@ public final class FurnaceCookLedgerTracker
         boolean activeNow,
         RecipeType<?> recipeType,
         Optional<ResourceLocation> recipeId,
-        int cookTime
+        int cookTime,
+        int outputPerCraft
+    )
+    {
+    }
+
+    /**
+     * A memoized recipe lookup for one input.
+     * Valid while the recipe manager instance (replaced on data pack reload), recipe type and input item + components match.
+     *
+     * @param input single-count copy of the input the recipe was resolved for
+     * @param cookTime the recipe cook time, or -1 if no recipe matched
+     */
+    private record RecipeResolution(
+        RecipeManager manager,
+        RecipeType<?> recipeType,
+        ItemStack input,
+        Optional<ResourceLocation> recipeId,
+        int cookTime,
+        int outputPerCraft
     )
     {
+        static final RecipeResolution NONE = new RecipeResolution(null, null, ItemStack.EMPTY, Optional.empty(), -1, 1);
+
+        boolean matches(final RecipeManager currentManager, final RecipeType<?> currentType, final ItemStack currentInput)
+        {
+            return manager == currentManager && recipeType == currentType && ItemStack.isSameItemSameComponents(input, currentInput);
+        }
     }
 
     private static final java.util.concurrent.ConcurrentHashMap<ResourceKey<Level>, LevelState> STATES =
@@ -252,20 +430,22 @@ public final class FurnaceCookLedgerTracker
 
         final LevelState st = state(level);
         final long now = level.getGameTime();
+        final FurnaceMachineProfileManager manager = FurnaceMachineProfileManager.get();
 
         for (BlockPos bePos : bes)
         {
             if (bePos == null) continue;
+            if (!manager.isDesignatedBlock(chunk.getBlockState(bePos).getBlock())) continue;
 
-            final Optional<MachineSnapshot> snapshot = resolveSnapshot(level, bePos);
+            final int existing = st.slotOf(bePos.asLong());
+            final Optional<MachineSnapshot> snapshot = resolveSnapshot(level, st, existing, bePos);
             if (snapshot.isPresent() && snapshot.get().activeNow())
             {
-                final long key = bePos.asLong();
-                st.active.add(key);
-                st.lastActiveTick.put(key, now);
+                final int slot = existing >= 0 ? existing : st.allocate(bePos, now);
+                st.lastActiveTick[slot] = now;
 
                 // Initialize snapshots so first poll doesn't spuriously fire.
-                primeSnapshots(st, snapshot.get());
+                primeSnapshots(st, slot, snapshot.get());
             }
         }
     }
@@ -291,15 +471,11 @@ public final class FurnaceCookLedgerTracker
         for (BlockPos bePos : bes)
         {
             if (bePos == null) continue;
-            final long key = bePos.asLong();
-
             // Only cleanup if we were tracking it (cheap guard).
-            if (st.active.contains(key) ||
-                st.lastResultCount.containsKey(key) ||
-                st.lastInputCount.containsKey(key) ||
-                st.lastActiveTick.containsKey(key))
+            final int slot = st.slotOf(bePos.asLong());
+            if (slot >= 0)
             {
-                removeTracked(st, key);
+                st.free(slot);
             }
         }
     }
@@ -317,20 +493,21 @@ public final class FurnaceCookLedgerTracker
         final BlockPos pos = event.getPos();
         if (pos == null) return;
 
-        final Optional<MachineSnapshot> snapshot = resolveSnapshot(level, pos);
-        if (snapshot.isEmpty() || !snapshot.get().activeNow()) return;
+        // Pre-filter: the notifying block's new state is on the event, so non-furnaces never reach a BE lookup.
+        final BlockState notified = event.getState();
+        if (notified == null || !FurnaceMachineProfileManager.get().isDesignatedBlock(notified.getBlock())) return;
 
         final LevelState st = state(level);
         final long key = pos.asLong();
 
-        st.active.add(key);
-        st.lastActiveTick.put(key, level.getGameTime());
+        // Already tracked: the poll loop observes it from here on.
+        if (st.slotOf(key) >= 0) return;
 
-        // Initialize snapshots if new
-        if (st.lastResultCount.get(key) < 0 || st.lastInputCount.get(key) < 0)
-        {
-            primeSnapshots(st, snapshot.get());
-        }
+        final Optional<MachineSnapshot> snapshot = resolveSnapshot(level, st, -1, pos);
+        if (snapshot.isEmpty() || !snapshot.get().activeNow()) return;
+
+        final int slot = st.allocate(pos, level.getGameTime());
+        primeSnapshots(st, slot, snapshot.get());
     }
 
     // ---- Polling ----
@@ -346,52 +523,109 @@ public final class FurnaceCookLedgerTracker
 
         final long now = level.getGameTime();
         final LevelState st = state(level);
-        if (st.active.isEmpty()) return;
+        if (st.size() == 0) return;
 
-        // Iterate active set. Remove if dead/idle.
-        final var it = st.active.iterator();
-        while (it.hasNext())
+        // Dense scan over the slot table. Free if dead/idle.
+        for (int slot = 0; slot < st.highWater; slot++)
         {
-            final long key = it.nextLong();
-            final BlockPos pos = BlockPos.of(key);
+            if (!st.live[slot]) continue;
 
-            if (pos == null) continue;
+            final BlockPos pos = st.positions[slot];
 
             // Never force work for unloaded chunks (prevents teardown/save contention).
             if (!level.isLoaded(pos))
             {
-                it.remove();
-                cleanupMaps(st, key);
+                st.free(slot);
                 continue;
             }
 
-            final Optional<MachineSnapshot> snapshot = resolveSnapshot(level, pos);
+            // Fast path: tracked slots unchanged since the last poll, so there is nothing to emit.
+            final int unchanged = pollUnchanged(level, st, slot, pos);
+            if (unchanged != SLOTS_CHANGED)
+            {
+                if (unchanged == UNCHANGED_ACTIVE)
+                {
+                    st.lastActiveTick[slot] = now;
+                }
+                else if (now - st.lastActiveTick[slot] > IDLE_GRACE_TICKS)
+                {
+                    st.free(slot);
+                }
+                continue;
+            }
+
+            final Optional<MachineSnapshot> snapshot = resolveSnapshot(level, st, slot, pos);
             if (snapshot.isEmpty())
             {
-                it.remove();
-                cleanupMaps(st, key);
+                st.free(slot);
                 continue;
             }
 
             final boolean activeNow = snapshot.get().activeNow();
             if (activeNow)
             {
-                st.lastActiveTick.put(key, now);
+                st.lastActiveTick[slot] = now;
             }
             else
             {
-                final long last = st.lastActiveTick.get(key);
+                final long last = st.lastActiveTick[slot];
                 if (now - last > IDLE_GRACE_TICKS)
                 {
-                    it.remove();
-                    cleanupMaps(st, key);
+                    st.free(slot);
                     continue;
                 }
             }
 
             // Delta detection (completion + extraction)
-            detectAndEmit(level, st, snapshot.get());
+            detectAndEmit(level, st, slot, snapshot.get());
+        }
+    }
+
+    /**
+     * Attributes corruption computed for a completed cook to the machine that produced it, for diagnostics.
+     * Called from the smelting progression while the cook-complete sink runs; untracked positions are ignored.
+     */
+    public static void recordEmittedCorruption(final ServerLevel level, final BlockPos pos, final int amount)
+    {
+        if (disabled() || level == null || pos == null) return;
+
+        final LevelState st = STATES.get(level.dimension());
+        if (st == null) return;
+
+        final int slot = st.slotOf(pos.asLong());
+        if (slot >= 0)
+        {
+            st.corruption[slot] += amount;
+        }
+    }
+
+    /**
+     * @return diagnostics for every machine currently tracked in the level
+     */
+    public static List<FurnaceStats> stats(final ServerLevel level)
+    {
+        final LevelState st = level == null ? null : STATES.get(level.dimension());
+        if (st == null) return List.of();
+
+        final long now = level.getGameTime();
+        final List<FurnaceStats> stats = new ArrayList<>(st.size());
+
+        for (int slot = 0; slot < st.highWater; slot++)
+        {
+            if (!st.live[slot]) continue;
+
+            stats.add(new FurnaceStats(
+                st.positions[slot],
+                now - st.trackedSince[slot],
+                st.crafts[slot],
+                st.produced[slot],
+                st.extracted[slot],
+                st.fuelPoints[slot],
+                st.corruption[slot]
+            ));
         }
+
+        return stats;
     }
 
     // ---- Core logic ----
@@ -399,17 +633,23 @@ public final class FurnaceCookLedgerTracker
     /**
      * Initialize snapshots of a furnace's input + result slots.
      */
-    private static void primeSnapshots(final LevelState st, final MachineSnapshot snapshot)
+    private static void primeSnapshots(final LevelState st, final int slot, final MachineSnapshot snapshot)
     {
-        final long key = snapshot.pos().asLong();
-
         final ItemStack in = snapshot.input();
-        st.lastInputCount.put(key, in.isEmpty() ? 0 : in.getCount());
-        st.lastInputItemId.put(key, in.isEmpty() ? 0 : System.identityHashCode(in.getItem()));
+        st.inputCount[slot] = in.isEmpty() ? 0 : in.getCount();
+        st.inputItem[slot] = itemId(in);
 
         final ItemStack out = snapshot.output();
-        st.lastResultCount.put(key, out.isEmpty() ? 0 : out.getCount());
-        st.lastResultItemId.put(key, out.isEmpty() ? 0 : System.identityHashCode(out.getItem()));
+        st.resultCount[slot] = out.isEmpty() ? 0 : out.getCount();
+        st.resultItem[slot] = itemId(out);
+    }
+
+    /**
+     * @return the item's registry raw id, or EMPTY_ITEM for an empty stack
+     */
+    private static int itemId(final ItemStack stack)
+    {
+        return stack.isEmpty() ? EMPTY_ITEM : BuiltInRegistries.ITEM.getId(stack.getItem());
     }
 
     /**
@@ -417,10 +657,9 @@ public final class FurnaceCookLedgerTracker
      *  - cook completion (output increased AND input decreased), with a fuel slot snapshot
      *  - output extraction (output decreased)
      */
-    private static void detectAndEmit(final ServerLevel level, final LevelState st, final MachineSnapshot snapshot)
+    private static void detectAndEmit(final ServerLevel level, final LevelState st, final int slot, final MachineSnapshot snapshot)
     {
         final BlockPos pos = snapshot.pos();
-        final long key = pos.asLong();
 
         final ItemStack curIn = snapshot.input();
         final ItemStack curOut = snapshot.output();
@@ -431,31 +670,25 @@ public final class FurnaceCookLedgerTracker
         final int curInCount = curIn.isEmpty() ? 0 : curIn.getCount();
         final int curOutCount = curOut.isEmpty() ? 0 : curOut.getCount();
 
-        final int curInId = (curInItem == null) ? 0 : System.identityHashCode(curInItem);
-        final int curOutId = (curOutItem == null) ? 0 : System.identityHashCode(curOutItem);
+        final int curInId = itemId(curIn);
+        final int curOutId = itemId(curOut);
 
-        final int lastInCount = st.lastInputCount.get(key);
-        final int lastOutCount = st.lastResultCount.get(key);
+        final int lastInCount = st.inputCount[slot];
+        final int lastOutCount = st.resultCount[slot];
 
-        final int lastInId = st.lastInputItemId.get(key);
-        final int lastOutId = st.lastResultItemId.get(key);
+        final int lastInId = st.inputItem[slot];
+        final int lastOutId = st.resultItem[slot];
 
         // First observation: initialize and bail
         if (lastInCount < 0 || lastOutCount < 0)
         {
-            st.lastInputCount.put(key, curInCount);
-            st.lastInputItemId.put(key, curInId);
-            st.lastResultCount.put(key, curOutCount);
-            st.lastResultItemId.put(key, curOutId);
+            primeSnapshots(st, slot, snapshot);
             return;
         }
 
-        // Resolve recipe once (used for both events)
+        // Recipe was resolved (or reused from the cache) when the snapshot was taken
         final RecipeType<?> recipeType = snapshot.recipeType();
-        final Optional<? extends RecipeHolder<?>> recipe = findRecipe(level, recipeType, curIn);
-        final Optional<ResourceLocation> recipeId = snapshot.recipeId().isPresent()
-            ? snapshot.recipeId()
-            : recipe.map(RecipeHolder::id);
+        final Optional<ResourceLocation> recipeId = snapshot.recipeId();
 
         // -------------------------
         // 1) Cook completion detection
@@ -477,25 +710,18 @@ public final class FurnaceCookLedgerTracker
             // Note: slot may be empty even if furnace is still burning (burn time is separate).
             final ItemStack fuelSnapshot = snapshot.fuel().copy();
 
-            RegistryAccess regAccess = level.registryAccess();
+            // Estimate crafts completed from recipe output size, but report the *actual produced count*.
+            int craftsCompleted = outDeltaUp / snapshot.outputPerCraft();
+            if (craftsCompleted <= 0) craftsCompleted = 1;
 
+            final int fuelPoints = Math.max(1, snapshot.cookTime() * craftsCompleted);
 
-            if (regAccess != null) 
-            {
-                // Estimate crafts completed from recipe output size, but report the *actual produced count*.
-                final int outputPerCraft = recipe
-                        .map(r -> recipeOutputCount(r, regAccess))
-                        .orElse(1);
+            st.crafts[slot] += craftsCompleted;
+            st.produced[slot] += outDeltaUp;
+            st.fuelPoints[slot] += fuelPoints;
 
-                int craftsCompleted = outDeltaUp / outputPerCraft;
-                if (craftsCompleted <= 0) craftsCompleted = 1;
-
-                final int cookTime = recipe.map(FurnaceCookLedgerTracker::recipeCookTime).orElse(snapshot.cookTime());
-                final int fuelPoints = Math.max(1, cookTime * craftsCompleted);
-
-                final ItemStack cookedOutput = new ItemStack(curOutItem, outDeltaUp);
-                COOK_COMPLETE_SINK.onCookCompleted(level, pos, cookedOutput, craftsCompleted, fuelPoints, fuelSnapshot, recipeType, recipeId);
-            }
+            final ItemStack cookedOutput = new ItemStack(curOutItem, outDeltaUp);
+            COOK_COMPLETE_SINK.onCookCompleted(level, pos, cookedOutput, craftsCompleted, fuelPoints, fuelSnapshot, recipeType, recipeId);
         }
 
         // -------------------------
@@ -519,7 +745,7 @@ public final class FurnaceCookLedgerTracker
             {
                 // Item changed. Conservatively assume previous stack was taken.
                 extractedCount = lastOutCount;
-                extractedItem = resolveItemFromLastSnapshot(snapshot, lastOutId);
+                extractedItem = resolveItemFromLastSnapshot(lastOutId);
             }
         }
 
@@ -527,8 +753,8 @@ public final class FurnaceCookLedgerTracker
         {
             final ItemStack extractedStack = new ItemStack(extractedItem, extractedCount);
 
-            final int cookTime = recipe.map(FurnaceCookLedgerTracker::recipeCookTime).orElse(snapshot.cookTime());
-            final int fuelPoints = Math.max(1, cookTime * extractedCount);
+            final int fuelPoints = Math.max(1, snapshot.cookTime() * extractedCount);
+            st.extracted[slot] += extractedCount;
 
             LEDGER_SINK.onCookOutputExtracted(level, pos, extractedStack, extractedCount, fuelPoints, recipeType, recipeId);
         }
@@ -536,24 +762,107 @@ public final class FurnaceCookLedgerTracker
         // -------------------------
         // Update snapshots last
         // -------------------------
-        st.lastInputCount.put(key, curInCount);
-        st.lastInputItemId.put(key, curInId);
-        st.lastResultCount.put(key, curOutCount);
-        st.lastResultItemId.put(key, curOutId);
+        st.inputCount[slot] = curInCount;
+        st.inputItem[slot] = curInId;
+        st.resultCount[slot] = curOutCount;
+        st.resultItem[slot] = curOutId;
     }
 
     /**
-     * Attempts to resolve the item from the last snapshot given its identity hash.
-     * If the item changed between polls, best effort is made to return the current result item if non-empty.
-     * If the result item is empty and changed, null is returned and the emit is skipped.
+     * Resolves the item of the last result snapshot from its registry raw id.
+     * If the id is no longer valid, null is returned and the emit is skipped.
      */
-    private static Item resolveItemFromLastSnapshot(final MachineSnapshot snapshot, final int lastItemId)
+    private static @Nullable Item resolveItemFromLastSnapshot(final int lastItemId)
     {
-        final ItemStack cur = snapshot.output();
-        if (!cur.isEmpty()) return cur.getItem();
+        if (lastItemId == EMPTY_ITEM) return null;
 
-        // If completely empty and changed, we cannot reliably reconstruct item from identity hash.
-        return null;
+        return BuiltInRegistries.ITEM.byId(lastItemId);
+    }
+
+    /**
+     * Poll pre-check: reads the machine's input and output slots in place (no copies, no recipe lookup) and
+     * compares item identity and count with the stored snapshot. When both match, detectAndEmit would emit
+     * nothing, so only the activity state is needed.
+     *
+     * @return SLOTS_CHANGED if a full snapshot is required (slots differ, first observation, or the machine can
+     *         no longer be read), otherwise UNCHANGED_ACTIVE or UNCHANGED_IDLE
+     */
+    private static int pollUnchanged(final ServerLevel level, final LevelState st, final int slot, final @Nonnull BlockPos pos)
+    {
+        if (st.inputCount[slot] < 0 || st.resultCount[slot] < 0)
+        {
+            return SLOTS_CHANGED;
+        }
+
+        final BlockState state = level.getBlockState(pos);
+        final FurnaceMachineProfileManager.MachineResolution resolution = FurnaceMachineProfileManager.get().resolve(state);
+        if (state == null || !resolution.tuning().designated())
+        {
+            return SLOTS_CHANGED;
+        }
+
+        final BlockEntity blockEntity = level.getBlockEntity(pos);
+        if (blockEntity == null)
+        {
+            return SLOTS_CHANGED;
+        }
+
+        final Optional<FurnaceMachineProfileManager.FurnaceMachineProfile> profile = resolution.profile();
+        if (profile.isEmpty() || profile.get().adapter() == FurnaceMachineProfileManager.AdapterKind.ABSTRACT_FURNACE)
+        {
+            if (!(blockEntity instanceof AbstractFurnaceBlockEntity furnace))
+            {
+                return SLOTS_CHANGED;
+            }
+
+            final ItemStack input = furnace.getItem(0);
+            final ItemStack output = furnace.getItem(2);
+            if (!matchesSnapshot(st, slot, input, input.isEmpty() ? 0 : input.getCount(), output, output.isEmpty() ? 0 : output.getCount()))
+            {
+                return SLOTS_CHANGED;
+            }
+
+            return vanillaActive(level, pos, state, input, output) ? UNCHANGED_ACTIVE : UNCHANGED_IDLE;
+        }
+
+        final FurnaceMachineProfileManager.FurnaceMachineProfile machineProfile = profile.get();
+
+        @SuppressWarnings("null")
+        final IItemHandler handler = level.getCapability(NullnessBridge.assumeNonnull(Capabilities.ItemHandler.BLOCK), pos, state, blockEntity, null);
+        if (handler == null)
+        {
+            return SLOTS_CHANGED;
+        }
+
+        final ItemStack input = firstStack(handler, machineProfile.inputSlots());
+        final ItemStack output = firstStack(handler, machineProfile.outputSlots());
+        if (!matchesSnapshot(st, slot,
+                input, combinedCount(handler, machineProfile.inputSlots(), input),
+                output, combinedCount(handler, machineProfile.outputSlots(), output)))
+        {
+            return SLOTS_CHANGED;
+        }
+
+        final boolean active = machineActive(state, machineProfile.activityProperty(),
+            !input.isEmpty() || !output.isEmpty() || !firstStack(handler, machineProfile.fuelSlots()).isEmpty());
+
+        return active ? UNCHANGED_ACTIVE : UNCHANGED_IDLE;
+    }
+
+    /**
+     * @return true if the input and output item identity and counts equal the stored snapshot
+     */
+    private static boolean matchesSnapshot(final LevelState st,
+                                           final int slot,
+                                           final ItemStack input,
+                                           final int inputCount,
+                                           final ItemStack output,
+                                           final int outputCount)
+    {
+        return st.inputCount[slot] == inputCount
+            && st.inputItem[slot] == itemId(input)
+            && st.resultCount[slot] == outputCount
+            && st.resultItem[slot] == itemId(output);
     }
 
     /**
@@ -569,10 +878,12 @@ public final class FurnaceCookLedgerTracker
      * If the block entity is an instance of AbstractFurnaceBlockEntity but the machine profile is undefined, the snapshot is resolved using snapshotAbstractFurnace with a null machine profile.
      *
      * @param level The level to resolve the snapshot in.
+     * @param st The level state holding the recipe cache.
+     * @param slot The machine's slot in the level state, or -1 if it is not tracked (recipe lookups are then not cached).
      * @param pos The position to resolve the snapshot at.
      * @return An optional containing a MachineSnapshot if the snapshot was resolved, otherwise empty.
      */
-    private static Optional<MachineSnapshot> resolveSnapshot(final @Nonnull ServerLevel level, final @Nonnull BlockPos pos)
+    private static Optional<MachineSnapshot> resolveSnapshot(final @Nonnull ServerLevel level, final LevelState st, final int slot, final @Nonnull BlockPos pos)
     {
         if (level == null || pos == null || !level.isLoaded(pos))
         {
@@ -586,9 +897,9 @@ public final class FurnaceCookLedgerTracker
             return Optional.empty();
         }
 
-        final FurnaceMachineProfileManager manager = FurnaceMachineProfileManager.get();
-        final FurnaceMachineProfileManager.MachineTuning tuning = manager.tuningFor(state);
-        if (!tuning.designated())
+        // One index probe resolves both tuning and profile.
+        final FurnaceMachineProfileManager.MachineResolution resolution = FurnaceMachineProfileManager.get().resolve(state);
+        if (!resolution.tuning().designated())
         {
             return Optional.empty();
         }
@@ -600,22 +911,22 @@ public final class FurnaceCookLedgerTracker
             return Optional.empty();
         }
 
-        final Optional<FurnaceMachineProfileManager.FurnaceMachineProfile> profile = manager.profileFor(state);
+        final Optional<FurnaceMachineProfileManager.FurnaceMachineProfile> profile = resolution.profile();
         if (profile.isPresent())
         {
             final FurnaceMachineProfileManager.FurnaceMachineProfile machineProfile = profile.get();
             return switch (machineProfile.adapter())
             {
                 case ABSTRACT_FURNACE -> (blockEntity instanceof AbstractFurnaceBlockEntity furnace)
-                    ? Optional.of(snapshotAbstractFurnace(level, furnace, machineProfile))
+                    ? Optional.of(snapshotAbstractFurnace(level, st, slot, furnace, machineProfile))
                     : Optional.empty();
-                case ITEM_HANDLER -> snapshotItemHandler(level, pos, state, blockEntity, machineProfile);
+                case ITEM_HANDLER -> snapshotItemHandler(level, st, slot, pos, state, blockEntity, machineProfile);
             };
         }
 
         if (blockEntity instanceof AbstractFurnaceBlockEntity furnace)
         {
-            return Optional.of(snapshotAbstractFurnace(level, furnace, null));
+            return Optional.of(snapshotAbstractFurnace(level, st, slot, furnace, null));
         }
 
         return Optional.empty();
@@ -625,11 +936,15 @@ public final class FurnaceCookLedgerTracker
      * Snapshot a vanilla furnace block entity into a MachineSnapshot.
      *
      * @param level The current level
+     * @param st The level state holding the recipe cache
+     * @param slot The furnace's slot, or -1 if untracked
      * @param furnace The vanilla furnace block entity
      * @param profile The machine profile associated with the furnace, if any
      * @return A MachineSnapshot containing the current state of the furnace, or null if the snapshot could not be constructed
      */
     private @Nullable static MachineSnapshot snapshotAbstractFurnace(final ServerLevel level,
+                                                           final LevelState st,
+                                                           final int slot,
                                                            final AbstractFurnaceBlockEntity furnace,
                                                            final FurnaceMachineProfileManager.FurnaceMachineProfile profile)
     {
@@ -645,8 +960,8 @@ public final class FurnaceCookLedgerTracker
         final ItemStack output = furnace.getItem(2).copy();
         final ItemStack fuel = furnace.getItem(1).copy();
         final RecipeType<?> recipeType = profileRecipeType(profile).orElseGet(() -> recipeTypeFor(furnace));
-        final Optional<? extends RecipeHolder<?>> recipe = findRecipe(level, recipeType, input);
-        final int cookTime = recipe.map(FurnaceCookLedgerTracker::recipeCookTime).orElseGet(() -> profile != null ? profile.cookTime() : defaultCookTimeFor(recipeType));
+        final RecipeResolution recipe = resolveRecipe(level, st, slot, recipeType, input);
+        final int cookTime = recipe.cookTime() > 0 ? recipe.cookTime() : (profile != null ? profile.cookTime() : defaultCookTimeFor(recipeType));
 
         return new MachineSnapshot(
             furnacePos,
@@ -655,8 +970,9 @@ public final class FurnaceCookLedgerTracker
             fuel,
             vanillaActive(level, furnacePos, state, input, output),
             recipeType,
-            recipe.map(RecipeHolder::id),
-            cookTime
+            recipe.recipeId(),
+            cookTime,
+            recipe.outputPerCraft()
         );
     }
 
@@ -664,6 +980,8 @@ public final class FurnaceCookLedgerTracker
      * Snapshot a machine using an ItemHandler.
      * 
      * @param level The current level
+     * @param st The level state holding the recipe cache
+     * @param slot The machine's slot, or -1 if untracked
      * @param pos The position of the machine
      * @param state The current block state of the machine
      * @param blockEntity The machine block entity
@@ -671,6 +989,8 @@ public final class FurnaceCookLedgerTracker
      * @return An optional containing a MachineSnapshot if the ItemHandler was valid, otherwise empty
      */
     private static Optional<MachineSnapshot> snapshotItemHandler(final ServerLevel level,
+                                                                 final LevelState st,
+                                                                 final int slot,
                                                                  final @Nonnull BlockPos pos,
                                                                  final @Nonnull BlockState state,
                                                                  final @Nonnull BlockEntity blockEntity,
@@ -688,9 +1008,9 @@ public final class FurnaceCookLedgerTracker
         final ItemStack output = combineSlots(handler, profile.outputSlots());
         final ItemStack fuel = combineSlots(handler, profile.fuelSlots());
         final RecipeType<?> recipeType = profileRecipeType(profile).orElse(RecipeType.SMELTING);
-        final Optional<? extends RecipeHolder<?>> recipe = findRecipe(level, recipeType, input);
-        final int cookTime = recipe.map(FurnaceCookLedgerTracker::recipeCookTime).orElse(profile.cookTime());
-        final boolean active = machineActive(state, profile.activityProperty()).orElse(!input.isEmpty() || !output.isEmpty() || !fuel.isEmpty());
+        final RecipeResolution recipe = resolveRecipe(level, st, slot, recipeType, input);
+        final int cookTime = recipe.cookTime() > 0 ? recipe.cookTime() : profile.cookTime();
+        final boolean active = machineActive(state, profile.activityProperty(), !input.isEmpty() || !output.isEmpty() || !fuel.isEmpty());
 
         return Optional.of(new MachineSnapshot(
             pos,
@@ -699,8 +1019,9 @@ public final class FurnaceCookLedgerTracker
             fuel,
             active,
             recipeType,
-            recipe.map(RecipeHolder::id),
-            cookTime
+            recipe.recipeId(),
+            cookTime,
+            recipe.outputPerCraft()
         ));
     }
 
@@ -738,11 +1059,16 @@ public final class FurnaceCookLedgerTracker
         return !input.isEmpty() && level.isLoaded(furnacePos);
     }
 
-    private static Optional<Boolean> machineActive(final BlockState state, final Optional<String> propertyName)
+    /**
+     * Reads the profile's boolean activity property from the block state.
+     *
+     * @return the property value, or the fallback if the profile names no property or the state does not have it
+     */
+    private static boolean machineActive(final BlockState state, final Optional<String> propertyName, final boolean fallback)
     {
         if (state == null || propertyName.isEmpty())
         {
-            return Optional.empty();
+            return fallback;
         }
 
         final String wanted = propertyName.get();
@@ -755,47 +1081,79 @@ public final class FurnaceCookLedgerTracker
 
             if (property instanceof BooleanProperty booleanProperty)
             {
-                return Optional.of(state.getValue(booleanProperty));
+                return state.getValue(booleanProperty);
             }
         }
 
-        return Optional.empty();
+        return fallback;
     }
 
     private static ItemStack combineSlots(final IItemHandler handler, final List<Integer> slots)
+    {
+        final ItemStack first = firstStack(handler, slots);
+        if (first.isEmpty())
+        {
+            return ItemStack.EMPTY;
+        }
+
+        return first.copyWithCount(combinedCount(handler, slots, first));
+    }
+
+    /**
+     * @return the first non-empty stack in the given slots (not copied; do not mutate), or ItemStack.EMPTY
+     */
+    private static ItemStack firstStack(final IItemHandler handler, final List<Integer> slots)
     {
         if (handler == null || slots == null || slots.isEmpty())
         {
             return ItemStack.EMPTY;
         }
 
-        ItemStack combined = ItemStack.EMPTY;
-        for (final Integer slot : slots)
+        for (int i = 0; i < slots.size(); i++)
         {
+            final Integer slot = slots.get(i);
             if (slot == null || slot < 0 || slot >= handler.getSlots())
             {
                 continue;
             }
 
             final ItemStack stack = handler.getStackInSlot(slot);
-            if (stack == null || stack.isEmpty())
+            if (stack != null && !stack.isEmpty())
             {
-                continue;
+                return stack;
             }
+        }
 
-            if (combined.isEmpty())
+        return ItemStack.EMPTY;
+    }
+
+    /**
+     * @return the total count across the given slots of stacks matching the first stack's item and components
+     */
+    private static int combinedCount(final IItemHandler handler, final List<Integer> slots, final ItemStack first)
+    {
+        if (first.isEmpty())
+        {
+            return 0;
+        }
+
+        int count = 0;
+        for (int i = 0; i < slots.size(); i++)
+        {
+            final Integer slot = slots.get(i);
+            if (slot == null || slot < 0 || slot >= handler.getSlots())
             {
-                combined = stack.copy();
                 continue;
             }
 
-            if (ItemStack.isSameItemSameComponents(combined, stack))
+            final ItemStack stack = handler.getStackInSlot(slot);
+            if (stack != null && !stack.isEmpty() && ItemStack.isSameItemSameComponents(first, stack))
             {
-                combined.grow(stack.getCount());
+                count += stack.getCount();
             }
         }
 
-        return combined;
+        return count;
     }
 
     private static Optional<RecipeType<?>> profileRecipeType(final FurnaceMachineProfileManager.FurnaceMachineProfile profile)
@@ -818,6 +1176,46 @@ public final class FurnaceCookLedgerTracker
         return RecipeType.SMELTING;
     }
 
+    /**
+     * Resolves the recipe for the input of the machine in the given slot (-1 = untracked, not cached), reusing the previous resolution while the
+     * recipe manager, recipe type and input item + components are unchanged (count changes do not invalidate).
+     */
+    private static RecipeResolution resolveRecipe(final ServerLevel level,
+                                                  final LevelState st,
+                                                  final int slot,
+                                                  final RecipeType<?> recipeType,
+                                                  final ItemStack input)
+    {
+        if (input == null || input.isEmpty())
+        {
+            return RecipeResolution.NONE;
+        }
+
+        final RecipeManager manager = level.getRecipeManager();
+        final RecipeResolution cached = slot >= 0 ? st.recipes[slot] : null;
+        if (cached != null && cached.matches(manager, recipeType, input))
+        {
+            return cached;
+        }
+
+        final Optional<? extends RecipeHolder<?>> recipe = findRecipe(level, recipeType, input);
+        final RegistryAccess regAccess = level.registryAccess();
+        final RecipeResolution resolved = new RecipeResolution(
+            manager,
+            recipeType,
+            input.copyWithCount(1),
+            recipe.map(RecipeHolder::id),
+            recipe.map(FurnaceCookLedgerTracker::recipeCookTime).orElse(-1),
+            recipe.map(r -> recipeOutputCount(r, regAccess)).orElse(1)
+        );
+
+        if (slot >= 0)
+        {
+            st.recipes[slot] = resolved;
+        }
+        return resolved;
+    }
+
     @SuppressWarnings({"rawtypes", "unchecked"})
     private static Optional<? extends RecipeHolder<?>> findRecipe(final ServerLevel level,
                                                                   final RecipeType<?> recipeType,
@@ -859,19 +1257,4 @@ public final class FurnaceCookLedgerTracker
         if (type == RecipeType.BLASTING) return 100;
         return 200;
     }
-
-    private static void removeTracked(final LevelState st, final long key)
-    {
-        st.active.remove(key);
-        cleanupMaps(st, key);
-    }
-
-    private static void cleanupMaps(final LevelState st, final long key)
-    {
-        st.lastResultCount.remove(key);
-        st.lastResultItemId.remove(key);
-        st.lastInputCount.remove(key);
-        st.lastInputItemId.remove(key);
-        st.lastActiveTick.remove(key);
-    }
 }
@@ -1,12 +1,16 @@
 package com.deathfrog.salvationmod.core.engine;
 
 import com.deathfrog.salvationmod.ModTags;
+import com.deathfrog.salvationmod.SalvationMod;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParseException;
 import com.mojang.logging.LogUtils;
+
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
+
 import org.slf4j.Logger;
 
 import javax.annotation.Nonnull;
@@ -25,7 +29,11 @@ import net.minecraft.util.GsonHelper;
 import net.minecraft.util.profiling.ProfilerFiller;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockState;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.TagsUpdatedEvent;
 
+@EventBusSubscriber(modid = SalvationMod.MODID)
 public final class FurnaceMachineProfileManager
 {
     public static final String FOLDER = "salvation_furnace_profiles";
@@ -35,69 +43,140 @@ public final class FurnaceMachineProfileManager
 
     private volatile List<FurnaceMachineProfile> profiles = List.of();
 
+    // Block -> resolved profile and tuning for every block that is not DEFAULT; built on first use after a profile or tag reload.
+    private volatile Reference2ObjectOpenHashMap<Block, MachineResolution> resolutions = null;
+
     public static FurnaceMachineProfileManager get()
     {
         return INSTANCE;
     }
 
-    public Optional<FurnaceMachineProfile> profileFor(final BlockState state)
+    /**
+     * Resolves the profile and tuning of a block state with a single identity-map probe.
+     * Profiles and the furnace tags match on block ids and block tags only, so the result depends only on the block.
+     */
+    public MachineResolution resolve(final BlockState state)
     {
         if (state == null)
         {
-            return Optional.empty();
+            return MachineResolution.NONE;
         }
 
-        final Block block = state.getBlock();
-        for (final FurnaceMachineProfile profile : this.profiles)
+        Reference2ObjectOpenHashMap<Block, MachineResolution> index = this.resolutions;
+
+        if (index == null)
+        {
+            index = buildResolutions();
+            this.resolutions = index;
+        }
+
+        return index.getOrDefault(state.getBlock(), MachineResolution.NONE);
+    }
+
+    public Optional<FurnaceMachineProfile> profileFor(final BlockState state)
+    {
+        return resolve(state).profile();
+    }
+
+    public MachineTuning tuningFor(final BlockState state)
+    {
+        return resolve(state).tuning();
+    }
+
+    public boolean isDesignatedFurnace(final BlockState state)
+    {
+        return tuningFor(state).designated();
+    }
+
+    /**
+     * Cheap pre-filter for hot paths (neighbor notifications, chunk scans).
+     *
+     * @return true if states of this block are designated furnaces
+     */
+    public boolean isDesignatedBlock(final Block block)
+    {
+        return block != null && tuningFor(block.defaultBlockState()).designated();
+    }
+
+    private Reference2ObjectOpenHashMap<Block, MachineResolution> buildResolutions()
+    {
+        final Reference2ObjectOpenHashMap<Block, MachineResolution> index = new Reference2ObjectOpenHashMap<>();
+
+        for (final Block block : BuiltInRegistries.BLOCK)
         {
-            if (profile.matches(block, state))
+            final MachineResolution resolution = resolveUncached(block.defaultBlockState());
+            if (resolution.tuning() != MachineTuning.DEFAULT || resolution.profile().isPresent())
             {
-                return Optional.of(profile);
+                index.put(block, resolution);
             }
         }
 
-        return Optional.empty();
+        return index;
     }
 
-    public MachineTuning tuningFor(final BlockState state)
+    /**
+     * Resolves a block state by checking the furnace tags and scanning the loaded profiles in order.
+     * Used only to build the block index.
+     */
+    private MachineResolution resolveUncached(final BlockState state)
     {
-        if (state == null)
+        final Block block = state.getBlock();
+        Optional<FurnaceMachineProfile> profile = Optional.empty();
+
+        for (final FurnaceMachineProfile candidate : this.profiles)
         {
-            return MachineTuning.DEFAULT;
+            if (candidate.matches(block, state))
+            {
+                profile = Optional.of(candidate);
+                break;
+            }
         }
 
         if (state.is(ModTags.Blocks.IGNORED_FURNACES))
         {
-            return MachineTuning.IGNORED;
+            return new MachineResolution(MachineTuning.IGNORED, profile);
         }
 
-        final Optional<FurnaceMachineProfile> profile = profileFor(state);
         if (profile.isPresent())
         {
-            return profile.get().tuning();
+            return new MachineResolution(profile.get().tuning(), profile);
         }
 
         if (state.is(ModTags.Blocks.PURIFICATION_FURNACES))
         {
-            return MachineTuning.purifying(1.0F, 0.0D, 0.0D);
+            return new MachineResolution(MachineTuning.purifying(1.0F, 0.0D, 0.0D), profile);
         }
 
         if (state.is(ModTags.Blocks.CORRUPTION_FURNACES))
         {
-            return MachineTuning.corrupting(1.0F, 0.0D, 0.0D);
+            return new MachineResolution(MachineTuning.corrupting(1.0F, 0.0D, 0.0D), profile);
         }
 
-        return MachineTuning.DEFAULT;
+        return MachineResolution.NONE;
     }
 
-    public boolean isDesignatedFurnace(final BlockState state)
+    /**
+     * Profile block tags and the furnace tags are only bound after the data pack reload completes,
+     * so the block index is rebuilt lazily after tags update.
+     */
+    @SubscribeEvent
+    public static void onTagsUpdated(final TagsUpdatedEvent event)
     {
-        return tuningFor(state).designated();
+        INSTANCE.resolutions = null;
     }
 
     private void setProfiles(final List<FurnaceMachineProfile> profiles)
     {
         this.profiles = Collections.unmodifiableList(new ArrayList<>(profiles));
+        this.resolutions = null;
+    }
+
+    /**
+     * The profile (if any) and effective tuning of a block.
+     */
+    public record MachineResolution(MachineTuning tuning, Optional<FurnaceMachineProfile> profile)
+    {
+        public static final MachineResolution NONE = new MachineResolution(MachineTuning.DEFAULT, Optional.empty());
     }
 
     public record MachineTuning(
@@ -14,6 +14,7 @@ import com.mojang.serialization.MapCodec;
 import com.mojang.serialization.codecs.RecordCodecBuilder;
 
 import it.unimi.dsi.fastutil.objects.ObjectArrayList;
+import it.unimi.dsi.fastutil.objects.Reference2ObjectOpenHashMap;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.HolderSet.Named;
 import net.minecraft.core.registries.BuiltInRegistries;
@@ -34,13 +35,14 @@ import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.storage.loot.LootContext;
 import net.minecraft.world.level.storage.loot.parameters.LootContextParams;
 
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
 import net.neoforged.neoforge.common.loot.LootModifier;
+import net.neoforged.neoforge.event.TagsUpdatedEvent;
 import net.neoforged.neoforge.common.loot.IGlobalLootModifier;
 import net.minecraft.world.level.storage.loot.predicates.LootItemCondition;
 import net.minecraft.world.phys.Vec3;
 
-import java.util.HashMap;
-import java.util.Map;
 import java.util.Optional;
 
 import javax.annotation.Nonnull;
@@ -48,15 +50,20 @@ import javax.annotation.Nullable;
 
 import org.slf4j.Logger;
 
+@EventBusSubscriber(modid = SalvationMod.MODID)
 public class LootCorruptionModifier extends LootModifier
-{;
+{
     public static final String CONVERTS_ON_CORRUPTION_PREFIX = "convertsto/";
 
     // Directly reference a slf4j logger
     public static final Logger LOGGER = LogUtils.getLogger();
     
 
-    protected static final Map<Item, TagKey<Item>> corruptedItemTagMap = new HashMap<>();
+    /** Sentinel for items without a corruption tag (or with an empty one). */
+    private static final Item[] NO_CORRUPTION_TARGETS = new Item[0];
+
+    // Item -> members of its convertsto/ tag, resolved on first use and cleared on tag reload
+    protected static final Reference2ObjectOpenHashMap<Item, Item[]> corruptionTargets = new Reference2ObjectOpenHashMap<>();
 
     public static final MapCodec<LootCorruptionModifier> CODEC = RecordCodecBuilder.mapCodec(instance -> 
         {
@@ -292,37 +299,66 @@ public class LootCorruptionModifier extends LootModifier
      * @return a corrupted version of the item, or null if there is no corrupted version
      */
     public static Item getCorrupted(@Nonnull Item base, RandomSource random)
+    {
+        Item[] targets = corruptionTargets.get(base);
+
+        if (targets == null)
+        {
+            targets = resolveCorruptionTargets(base);
+            corruptionTargets.put(base, targets);
+        }
+
+        if (targets.length == 0) return null;
+        if (targets.length == 1) return targets[0];
+
+        return targets[random.nextInt(targets.length)];
+    }
+
+    /**
+     * Resolves the members of the item's "convertsto/&lt;namespace&gt;_&lt;path&gt;" tag.
+     *
+     * @return the corruption targets, or {@link #NO_CORRUPTION_TARGETS} if the tag is absent or empty
+     */
+    private static Item[] resolveCorruptionTargets(@Nonnull final Item base)
     {
         ResourceLocation id = BuiltInRegistries.ITEM.getKey(base);
         String corruptedPath = CONVERTS_ON_CORRUPTION_PREFIX + id.getNamespace() + "_" + id.getPath();
         ResourceLocation corruptionTagLocation = ResourceLocation.fromNamespaceAndPath(SalvationMod.MODID, corruptedPath);
 
         TraceUtils.dynamicTrace(ModCommands.TRACE_CORRUPTION,
-                () -> LOGGER.info("Looking for replacement item for {} at path {}, in location {}", base, corruptedPath, corruptionTagLocation));
-
-        if (corruptionTagLocation == null) return null;
+                () -> LOGGER.info("Resolving replacement items for {} at path {}, in location {}", base, corruptedPath, corruptionTagLocation));
 
-        TagKey<Item> corruptedItemTag = corruptedItemTagMap.get(base);
+        if (corruptionTagLocation == null) return NO_CORRUPTION_TARGETS;
 
-        if (corruptedItemTag == null)
-        {
-            corruptedItemTag = TagKey.create(NullnessBridge.assumeNonnull(Registries.ITEM), corruptionTagLocation);
-            corruptedItemTagMap.put(base, corruptedItemTag);
-        }
+        TagKey<Item> corruptedItemTag = TagKey.create(NullnessBridge.assumeNonnull(Registries.ITEM), corruptionTagLocation);
 
-        if (corruptedItemTag == null) return null;
-
-        Optional<Named<Item>> taggedItems = BuiltInRegistries.ITEM.getTag(corruptedItemTag);
-        if (taggedItems.isEmpty()) return null;
+        Optional<Named<Item>> taggedItems = BuiltInRegistries.ITEM.getTag(NullnessBridge.assumeNonnull(corruptedItemTag));
+        if (taggedItems.isEmpty()) return NO_CORRUPTION_TARGETS;
 
         Named<Item> holders = taggedItems.get();
         int size = holders.size();
-        
-        if (size == 0) return null;
-        if (size == 1) return holders.get(0).value();
 
-        int index = random.nextInt(size);
+        if (size == 0) return NO_CORRUPTION_TARGETS;
+
+        final Item[] targets = new Item[size];
+        for (int i = 0; i < size; i++)
+        {
+            targets[i] = holders.get(i).value();
+        }
+
+        return targets;
+    }
+
+    /**
+     * Drops the resolved corruption targets when the server reloads its tags; they are re-resolved on next use.
+     * The cache is only touched from the server thread (loot is rolled server-side), so client-side tag syncs
+     * (which fire this event on the client thread of an integrated server) are ignored.
+     */
+    @SubscribeEvent
+    public static void onTagsUpdated(final TagsUpdatedEvent event)
+    {
+        if (event.getUpdateCause() != TagsUpdatedEvent.UpdateCause.SERVER_DATA_LOAD) return;
 
-        return holders.get(index).value();
+        corruptionTargets.clear();
     }
 }
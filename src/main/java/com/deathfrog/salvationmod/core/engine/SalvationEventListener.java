@@ -31,18 +31,16 @@ import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.levelgen.Heightmap;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.common.EventBusSubscriber;
-import net.neoforged.neoforge.attachment.AttachmentType;
 import net.neoforged.neoforge.event.entity.RegisterSpawnPlacementsEvent;
 import net.neoforged.neoforge.event.entity.living.FinalizeSpawnEvent;
 import net.neoforged.neoforge.event.entity.living.LivingDeathEvent;
 import net.neoforged.neoforge.event.entity.living.LivingIncomingDamageEvent;
 import net.neoforged.neoforge.event.entity.living.MobSpawnEvent;
 import net.neoforged.neoforge.event.level.BlockEvent;
-import net.neoforged.neoforge.event.tick.EntityTickEvent;
+import net.neoforged.neoforge.event.level.LevelEvent;
 import net.neoforged.neoforge.event.tick.ServerTickEvent;
 
 import com.deathfrog.mctradepost.api.util.NullnessBridge;
-import com.deathfrog.salvationmod.ModAttachments;
 import com.deathfrog.salvationmod.ModBlocks;
 import com.deathfrog.salvationmod.ModDimensions;
 import com.deathfrog.salvationmod.ModEntityTypes;
@@ -63,7 +61,6 @@ import com.minecolonies.api.entity.citizen.AbstractEntityCitizen;
 import com.minecolonies.api.eventbus.events.colony.citizens.CitizenAddedModEvent;
 import com.minecolonies.api.util.MessageUtils;
 import com.mojang.logging.LogUtils;
-import com.deathfrog.salvationmod.core.entity.ai.workers.minimal.EntityAIRefugeeWanderTask;
 
 @EventBusSubscriber(modid = SalvationMod.MODID)
 public class SalvationEventListener 
@@ -521,6 +518,20 @@ public class SalvationEventListener
         }
     }
 
+    /**
+     * Releases per-level engine caches when a server level unloads.
+     *
+     * @param event The LevelEvent.Unload that triggered this method.
+     */
+    @SubscribeEvent
+    public static void onLevelUnload(final LevelEvent.Unload event)
+    {
+        if (event.getLevel() instanceof ServerLevel level)
+        {
+            SalvationManager.forgetLevel(level);
+        }
+    }
+
     /**
      * This method is called by the EventBus whenever a LivingEntity dies.
      * It is responsible for adding progression to the salvation logic
@@ -624,7 +635,7 @@ public class SalvationEventListener
         final DamageSource source,
         final LivingEntity target)
     {
-        if (!target.getType().is(ModTags.Entities.CORRUPTED_ENTITY))
+        if (!SalvationManager.isCorruptedEntity(target.getType()))
         {
             return;
         }
@@ -674,7 +685,7 @@ public class SalvationEventListener
             return;
         }
 
-        if (target.getType().is(ModTags.Entities.CORRUPTED_ENTITY) || !SalvationManager.isCorruptableEntity(target.getType()))
+        if (SalvationManager.isCorruptedEntity(target.getType()) || !SalvationManager.isCorruptableEntity(target.getType()))
         {
             return;
         }
@@ -684,14 +695,7 @@ public class SalvationEventListener
             return;
         }
 
-        final AttachmentType<ModAttachments.ConversionData> attachmentType = ModAttachments.CONVERSION.get();
-        if (attachmentType == null)
-        {
-            return;
-        }
-
-        final ModAttachments.ConversionData existing = target.getData(attachmentType);
-        if (existing != null && existing.ticksRemaining() > 0)
+        if (ConversionTracker.isConverting(target))
         {
             return;
         }
@@ -822,66 +826,6 @@ public class SalvationEventListener
         return state.is(NullnessBridge.assumeNonnull(BlockTags.SAPLINGS));
     }
 
-    /**
-     * Called every tick on every living entity in the world.
-     * If the entity has a {@link CleansingData} attachment, this method will decrement the remaining ticks and update the entity's data.
-     * If the remaining ticks reaches 0, this method will call {@link EntityConversion#finishCleansing(ServerLevel, LivingEntity)} to finish the cleansing process.
-     * <p>This method will also play visual effects every 5 ticks to give a "ticking" feeling to the player.
-     * <p>This method will not do anything if the entity does not have a {@link CleansingData} attachment.
-     */
-    @SubscribeEvent
-    public static void onLivingTick(final EntityTickEvent.Post event)
-    {
-        if (!(event.getEntity() instanceof LivingEntity entity))
-            return;
-
-        if (!(entity.level() instanceof ServerLevel level))
-            return;
-
-        if (entity instanceof AbstractEntityCitizen citizen)
-        {
-            EntityAIRefugeeWanderTask.tryRehydrate(citizen);
-        }
-
-        final AttachmentType<ModAttachments.ConversionData> attachmentType = ModAttachments.CONVERSION.get();
-
-        if (attachmentType == null)
-        {
-            throw new IllegalStateException("Failed to get CleansingData attachment type.");
-        }
-
-        final ModAttachments.ConversionData data = entity.getData(attachmentType);
-
-        if (data == null || data.ticksRemaining() <= 0) return;
-
-        boolean isCleansing = data.isCleansing();
-
-        final int remaining = data.ticksRemaining() - 1;
-        entity.setData(
-            attachmentType,
-            new ModAttachments.ConversionData(
-                remaining,
-                isCleansing,
-                data.sourcePlayerUuid(),
-                data.retaliationTargetUuid(),
-                data.preserveSourceHealth()
-            )
-        );
-
-        // Finished cleansing → convert (do this BEFORE TICK FX)
-        if (remaining <= 0)
-        {
-            EntityConversion.finishConversion(level, entity, isCleansing);
-            return;
-        }   
-
-        // Visual feedback every 5 ticks (while still cleansing)
-        if ((entity.tickCount % 5) == 0)
-        {
-            EntityConversion.playConversionEffects(level, entity, EntityConversion.ConversionFxPhase.TICK, isCleansing);
-        }
-    }
-
     /**
      * Called when an item is extracted from a furnace.
      * This is registered to listen to the FurnaceCookLedgerTrcker.
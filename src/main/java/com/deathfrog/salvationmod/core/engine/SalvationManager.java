@@ -33,6 +33,7 @@ import net.minecraft.core.particles.ParticleTypes;
 import net.minecraft.core.particles.SimpleParticleType;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.ChatFormatting;
@@ -60,6 +61,9 @@ public final class SalvationManager
     private static final float UNSTABLE_TOOL_BACKLASH_DAMAGE = 1.0F;
     private static final String DOWNWARD_TRANSITION_MESSAGE_KEY = "message.salvation.corruption.stage_downward";
 
+    /** Effect magnitudes are documented as 1-10; amounts aggregated over many events are capped so they don't flood particles. */
+    static final int MAX_AGGREGATED_EFFECT_MAGNITUDE = 10;
+
     // Percent chance that a notification will be sent
     protected final static int WORLD_NOTIFICATION_CHANCE = 15;
 
@@ -72,6 +76,11 @@ public final class SalvationManager
     // Last time a notification was sent
     protected static long lastNotificationGameTime = 0L;
 
+    // Exteritio data backing the cycle-ended check. The slain flag is updated in place on that data,
+    // so only the resolved reference is cached (per server, to survive integrated server restarts).
+    private static MinecraftServer cycleServer = null;
+    private static SalvationSavedData cycleData = null;
+
     public static final Logger LOGGER = LogUtils.getLogger();
 
     /**
@@ -91,6 +100,9 @@ public final class SalvationManager
 
         data.setLastLoopGameTime(gameTime);
 
+        // Apply corruption deltas queued since the last loop (no-op unless batching is enabled).
+        CorruptionDeltaBatch.flush(level);
+
         List<IColony> colonies = IColonyManager.getInstance().getColonies(level);
 
         // Colony independent logic goes here.
@@ -166,7 +178,7 @@ public final class SalvationManager
      */
     public static boolean isCorruptedEntity(EntityType<?> entityType)
     {
-        return entityType.is(ModTags.Entities.CORRUPTED_ENTITY);
+        return (TagClassification.entityFlags(entityType) & TagClassification.CORRUPTED_ENTITY) != 0;
     }
 
     /**
@@ -177,7 +189,7 @@ public final class SalvationManager
      */
     public static boolean isVoraxian(EntityType<?> entityType)
     {
-        return entityType.is(ModTags.Entities.VORAXIAN);
+        return (TagClassification.entityFlags(entityType) & TagClassification.VORAXIAN) != 0;
     }
 
     /**
@@ -191,7 +203,7 @@ public final class SalvationManager
      */
     public static boolean isCorruptableEntity(EntityType<?> entityType)
     {
-        return entityType.is(ModTags.Entities.CORRUPTABLE_ENTITY);
+        return (TagClassification.entityFlags(entityType) & TagClassification.CORRUPTABLE_ENTITY) != 0;
     }
 
     /**
@@ -207,51 +219,52 @@ public final class SalvationManager
     {
         int corruption = 0;
         int purification = 0;
+        final int blockFlags = TagClassification.blockFlags(state.getBlock());
 
         // Trival corruption-triggering blocks
-        if (state.is(ModTags.Blocks.CORRUPTION_BREAK_TRIVIAL))
+        if ((blockFlags & TagClassification.CORRUPTION_BREAK_TRIVIAL) != 0)
         {
             corruption += 1;
         }
 
         // Minor corruption-triggering blocks
-        if (state.is(ModTags.Blocks.CORRUPTION_BREAK_MINOR))
+        if ((blockFlags & TagClassification.CORRUPTION_BREAK_MINOR) != 0)
         {
             corruption += 2;
         }
 
         // Stronger trigger blocks
-        if (state.is(ModTags.Blocks.CORRUPTION_BREAK_MAJOR))
+        if ((blockFlags & TagClassification.CORRUPTION_BREAK_MAJOR) != 0)
         {
             corruption += 5;
         }
 
         // Even stronger trigger blocks
-        if (state.is(ModTags.Blocks.CORRUPTION_BREAK_EXTREME))
+        if ((blockFlags & TagClassification.CORRUPTION_BREAK_EXTREME) != 0)
         {
             corruption += 13;
         }
 
         // Trivial purification-triggering blocks
-        if (state.is(ModTags.Blocks.PURIFICATION_BREAK_TRIVIAL))
+        if ((blockFlags & TagClassification.PURIFICATION_BREAK_TRIVIAL) != 0)
         {
             purification += 1;
         }
 
         // Minor purification-triggering blocks
-        if (state.is(ModTags.Blocks.PURIFICATION_BREAK_MINOR))
+        if ((blockFlags & TagClassification.PURIFICATION_BREAK_MINOR) != 0)
         {
             purification += 2;
         }
 
         // Stronger trigger blocks
-        if (state.is(ModTags.Blocks.PURIFICATION_BREAK_MAJOR))
+        if ((blockFlags & TagClassification.PURIFICATION_BREAK_MAJOR) != 0)
         {
             purification += 5;
         }
 
         // Even stronger trigger blocks
-        if (state.is(ModTags.Blocks.PURIFICATION_BREAK_EXTREME))
+        if ((blockFlags & TagClassification.PURIFICATION_BREAK_EXTREME) != 0)
         {
             purification += 13;
         }
@@ -291,51 +304,52 @@ public final class SalvationManager
     public static CorruptionStage applyBlockPlaceProgression(@Nonnull ServerLevel level, @Nonnull BlockState state, @Nonnull BlockPos pos) 
     {
         int progress = 0;
+        final int blockFlags = TagClassification.blockFlags(state.getBlock());
 
         // Trivial corruption-triggering blocks
-        if (state.is(ModTags.Blocks.CORRUPTION_PLACE_TRIVIAL))
+        if ((blockFlags & TagClassification.CORRUPTION_PLACE_TRIVIAL) != 0)
         {
             progress += 1;
         }
 
         // Minor corruption-triggering blocks
-        if (state.is(ModTags.Blocks.CORRUPTION_PLACE_MINOR))
+        if ((blockFlags & TagClassification.CORRUPTION_PLACE_MINOR) != 0)
         {
             progress += 2;
         }
 
         // Stronger trigger blocks
-        if (state.is(ModTags.Blocks.CORRUPTION_PLACE_MAJOR))
+        if ((blockFlags & TagClassification.CORRUPTION_PLACE_MAJOR) != 0)
         {
             progress += 5;
         }
 
         // Even stronger trigger blocks
-        if (state.is(ModTags.Blocks.CORRUPTION_PLACE_EXTREME))
+        if ((blockFlags & TagClassification.CORRUPTION_PLACE_EXTREME) != 0)
         {
             progress += 13;
         }
 
         // Trival corruption-triggering blocks
-        if (state.is(ModTags.Blocks.PURIFICATION_PLACE_TRIVIAL))
+        if ((blockFlags & TagClassification.PURIFICATION_PLACE_TRIVIAL) != 0)
         {
             progress -= 1;
         }
 
         // Minor corruption-triggering blocks
-        if (state.is(ModTags.Blocks.PURIFICATION_PLACE_MINOR))
+        if ((blockFlags & TagClassification.PURIFICATION_PLACE_MINOR) != 0)
         {
             progress -= 2;
         }
 
         // Stronger trigger blocks
-        if (state.is(ModTags.Blocks.PURIFICATION_PLACE_MAJOR))
+        if ((blockFlags & TagClassification.PURIFICATION_PLACE_MAJOR) != 0)
         {
             progress -= 5;
         }
 
         // Even stronger trigger blocks
-        if (state.is(ModTags.Blocks.PURIFICATION_PLACE_EXTREME))
+        if ((blockFlags & TagClassification.PURIFICATION_PLACE_EXTREME) != 0)
         {
             progress -= 13;
         }
@@ -364,33 +378,34 @@ public final class SalvationManager
 
         int corruption = 0;
         int purification = 0;
+        final int entityFlags = TagClassification.entityFlags(entity.getType());
 
-        if (entity.getType().is(ModTags.Entities.CORRUPTION_KILL_MINOR))
+        if ((entityFlags & TagClassification.CORRUPTION_KILL_MINOR) != 0)
         {
             corruption += 2;
         }
 
-        if (entity.getType().is(ModTags.Entities.CORRUPTION_KILL_MAJOR))
+        if ((entityFlags & TagClassification.CORRUPTION_KILL_MAJOR) != 0)
         {
             corruption += 5;
         }
 
-        if (entity.getType().is(ModTags.Entities.CORRUPTION_KILL_EXTREME))
+        if ((entityFlags & TagClassification.CORRUPTION_KILL_EXTREME) != 0)
         {
             corruption += 13;
         }
 
-        if (entity.getType().is(ModTags.Entities.PURIFICATION_KILL_MINOR))
+        if ((entityFlags & TagClassification.PURIFICATION_KILL_MINOR) != 0)
         {
             purification += 2;
         }
 
-        if (entity.getType().is(ModTags.Entities.PURIFICATION_KILL_MAJOR))
+        if ((entityFlags & TagClassification.PURIFICATION_KILL_MAJOR) != 0)
         {
             purification += 5;
         }
 
-        if (entity.getType().is(ModTags.Entities.PURIFICATION_KILL_EXTREME))
+        if ((entityFlags & TagClassification.PURIFICATION_KILL_EXTREME) != 0)
         {
             purification += 13;
         }
@@ -509,6 +524,7 @@ public final class SalvationManager
         if (corruption > 0 && corruption < 1.0) corruption = 1.0;
         if (corruption < 0 && corruption > -1.0) corruption = -1.0;
 
+        FurnaceCookLedgerTracker.recordEmittedCorruption(level, pos, (int) corruption);
         CorruptionStage stage = recordCorruption(level, ProgressionSource.FUEL, pos, (int) corruption);
 
         return stage;
@@ -615,6 +631,7 @@ public final class SalvationManager
         if (corruption > 0 && corruption < 1.0) corruption = 1.0;
         if (corruption < 0 && corruption > -1.0) corruption = -1.0;
 
+        FurnaceCookLedgerTracker.recordEmittedCorruption(level, pos, (int) corruption);
         CorruptionStage stage = recordCorruption(level, ProgressionSource.SMELTING, pos, (int) corruption);
 
         return stage;
@@ -707,17 +724,7 @@ public final class SalvationManager
      */
     public static @Nonnull CorruptionStage stageForLevel(@Nonnull ServerLevel level)
     {
-        SalvationSavedData salvationData = SalvationSavedData.get(level);
-        long progressionMeasure = salvationData.getTotalProgression();
-
-        if (progressionMeasure > CorruptionStage.STAGE_6_TERMINAL.getThreshold()) return CorruptionStage.STAGE_6_TERMINAL;
-        if (progressionMeasure > CorruptionStage.STAGE_5_CRITICAL.getThreshold()) return CorruptionStage.STAGE_5_CRITICAL;
-        if (progressionMeasure > CorruptionStage.STAGE_4_DANGEROUS.getThreshold()) return CorruptionStage.STAGE_4_DANGEROUS;
-        if (progressionMeasure > CorruptionStage.STAGE_3_SPREADING.getThreshold()) return CorruptionStage.STAGE_3_SPREADING;
-        if (progressionMeasure > CorruptionStage.STAGE_2_AWAKENED.getThreshold()) return CorruptionStage.STAGE_2_AWAKENED;
-        if (progressionMeasure > CorruptionStage.STAGE_1_NORMAL.getThreshold()) return CorruptionStage.STAGE_1_NORMAL;
-
-        return CorruptionStage.STAGE_0_UNTRIGGERED;
+        return SalvationSavedData.get(level).getCurrentStage();
     }
 
     /**
@@ -742,18 +749,46 @@ public final class SalvationManager
      */
     public static boolean isCorruptionCycleEnded(@Nonnull final ServerLevel level)
     {
-        if (level == null || level.getServer() == null)
+        if (level == null)
         {
             return false;
         }
 
-        final ServerLevel exteritio = level.getServer().getLevel(NullnessBridge.assumeNonnull(ModDimensions.EXTERITIO));
-        if (exteritio == null)
+        final MinecraftServer server = level.getServer();
+        if (server == null)
         {
             return false;
         }
 
-        return SalvationSavedData.get(exteritio).hasVoraxianOverlordBeenSlain();
+        if (server != cycleServer || cycleData == null)
+        {
+            final ServerLevel exteritio = server.getLevel(NullnessBridge.assumeNonnull(ModDimensions.EXTERITIO));
+            if (exteritio == null)
+            {
+                return false;
+            }
+
+            cycleServer = server;
+            cycleData = SalvationSavedData.get(exteritio);
+        }
+
+        return cycleData.hasVoraxianOverlordBeenSlain();
+    }
+
+    /**
+     * Releases cached state tied to a level that is unloading.
+     *
+     * @param level the level being unloaded
+     */
+    public static void forgetLevel(@Nonnull final ServerLevel level)
+    {
+        if (cycleData != null && cycleData.getLevelForSave() == level)
+        {
+            cycleServer = null;
+            cycleData = null;
+        }
+
+        SalvationSavedData.forget(level);
     }
 
     /**
@@ -1000,6 +1035,18 @@ public final class SalvationManager
      * @return the current stage of the salvation logic for the given level after recording the corruption/purification
      */
     public static CorruptionStage recordCorruption(@Nonnull ServerLevel level, ProgressionSource source, @Nullable BlockPos pos, int amount) 
+    {
+        return recordCorruption(level, source, pos, amount, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Records corruption/purification like {@link #recordCorruption(ServerLevel, ProgressionSource, BlockPos, int)}, but caps the
+     * magnitude of the particle effect. Used when the amount aggregates many events at one position, such as the blocks reverted
+     * in a chunk.
+     *
+     * @param maxEffectMagnitude the largest effect magnitude to play for the amount
+     */
+    static CorruptionStage recordCorruption(@Nonnull ServerLevel level, ProgressionSource source, @Nullable BlockPos pos, int amount, int maxEffectMagnitude) 
     {
         Boolean corruptionDisabled = Config.corruptionDisabled.get();
 
@@ -1014,6 +1061,13 @@ public final class SalvationManager
 
         if (amount == 0) return previousStage;
 
+        // Batching mode: queue the delta and apply it with the rest of this loop's events in CorruptionDeltaBatch.flush.
+        if (Config.batchCorruptionUpdates.get())
+        {
+            CorruptionDeltaBatch.enqueue(level, source, pos, amount);
+            return previousStage;
+        }
+
         int purification = 0;
         int corruption = 0;
 
@@ -1035,7 +1089,7 @@ public final class SalvationManager
                     () -> LOGGER.info("Applying post-cycle purification from {} at {}: {}.", source, pos, localPurification));
 
                 ChunkCorruptionSystem.onPurifyingAction(level, pos, purification, source);
-                purificationEffect(level, pos, purification);
+                purificationEffect(level, pos, Math.min(purification, maxEffectMagnitude));
 
                 final IColony colony = IColonyManager.getInstance().getIColony(level, pos);
                 if (colony != null)
@@ -1062,7 +1116,7 @@ public final class SalvationManager
             TraceUtils.dynamicTrace(ModCommands.TRACE_CORRUPTION, () -> LOGGER.info("Recording {} purification from {} at {}.", localPurification, source, pos));
 
             ChunkCorruptionSystem.onPurifyingAction(level, pos, purification, source);
-            purificationEffect(level, pos, purification);
+            purificationEffect(level, pos, Math.min(purification, maxEffectMagnitude));
 
             IColony colony = IColonyManager.getInstance().getIColony(level, pos);
             if (colony != null)
@@ -1077,7 +1131,7 @@ public final class SalvationManager
             int localCorruption = corruption;
             TraceUtils.dynamicTrace(ModCommands.TRACE_CORRUPTION, () -> LOGGER.info("Recording {} corruption from {} at {}.", localCorruption, source, pos));
             ChunkCorruptionSystem.onCorruptingAction(level, pos, corruption, source);
-            corruptionEffect(level, pos, source, corruption);
+            corruptionEffect(level, pos, source, Math.min(corruption, maxEffectMagnitude));
 
             IColony colony = IColonyManager.getInstance().getIColony(level, pos);
             if (colony != null)
@@ -1102,7 +1156,7 @@ public final class SalvationManager
      * @param currentStage the current corruption stage
      */
     @SuppressWarnings("null")
-    private static void broadcastStageTransition(final ServerLevel level, final CorruptionStage previousStage, final CorruptionStage currentStage)
+    static void broadcastStageTransition(final ServerLevel level, final CorruptionStage previousStage, final CorruptionStage currentStage)
     {
         if (previousStage == currentStage)
         {
@@ -8,6 +8,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.WeakHashMap;
 
 import javax.annotation.Nonnull;
 
@@ -18,10 +19,6 @@ import com.deathfrog.salvationmod.core.colony.ColonyHandlerState;
 import com.minecolonies.api.colony.IColony;
 import com.mojang.logging.LogUtils;
 
-import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
-import it.unimi.dsi.fastutil.longs.Long2LongOpenHashMap;
-import it.unimi.dsi.fastutil.longs.Long2IntMap;
-import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import net.minecraft.core.HolderLookup.Provider;
 import net.minecraft.core.BlockPos;
 import net.minecraft.nbt.CompoundTag;
@@ -29,6 +26,7 @@ import net.minecraft.nbt.ListTag;
 import net.minecraft.nbt.LongArrayTag;
 import net.minecraft.nbt.Tag;
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.RandomSource;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.saveddata.SavedData;
 
@@ -71,6 +69,21 @@ public final class SalvationSavedData extends SavedData
      */
     private CorruptionStage highestStageReached = CorruptionStage.STAGE_0_UNTRIGGERED;
 
+    /**
+     * Memoized derived state. Stage queries run from spawn checks, loot and every engine tick, so the
+     * total and stage are kept current by the progression mutators instead of being re-derived per call.
+     * The stage is also tied to the stage rules generation so a datapack reload of thresholds is honored.
+     */
+    private long totalProgression = 0L;
+    private CorruptionStage currentStage = CorruptionStage.STAGE_0_UNTRIGGERED;
+    private int currentStageRulesGeneration = -1;
+
+    /** Set once the dimension-tag initialization checks in {@link #get(ServerLevel)} have been evaluated against bound tags. */
+    private boolean initializationChecked = false;
+
+    /** Resolved data per level, so repeat lookups skip the data storage factory and map. */
+    private static final WeakHashMap<ServerLevel, SalvationSavedData> RESOLVED = new WeakHashMap<>();
+
     public static record StageHistoryEntry(
         CorruptionStage fromStage,
         CorruptionStage toStage,
@@ -96,6 +109,12 @@ public final class SalvationSavedData extends SavedData
     private static final String TAG_LAST_CORRUPTION_EVENT = "c";
     private static final String TAG_LAST_PURIFICATION_EVENT = "p";
     private static final String TAG_MUTATED_CORRUPTED_BIOME_CHUNKS = "mutatedCorruptedBiomeChunks";
+    private static final String TAG_CHUNK_TABLE = "chunkTable";
+    private static final String TAG_CHUNK_TABLE_KEYS = "keys";
+    private static final String TAG_CHUNK_TABLE_VALUES = "values";
+    private static final String TAG_CHUNK_TABLE_TOUCHED = "touched";
+    private static final String TAG_CHUNK_TABLE_CORRUPTION_EVENTS = "corruptionEvents";
+    private static final String TAG_CHUNK_TABLE_PURIFICATION_EVENTS = "purificationEvents";
     private static final String TAG_VORAXIAN_BASE_LOCATION = "voraxianBaseLocation";
     private static final String TAG_VORAXIAN_OVERLORD_SLAIN = "voraxianOverlordSlain";
     private static final String TAG_VORAXIAN_OVERLORD_LAST_RESPAWN_DAY_CHECK = "voraxianOverlordLastRespawnDayCheck";
@@ -105,11 +124,8 @@ public final class SalvationSavedData extends SavedData
 
     // key: ChunkPos.toLong()
     // value: 0..ChunkCorruptionSystem.CORRUPTION_HARD_MAX
-    private final Long2IntOpenHashMap chunkCorruption = new Long2IntOpenHashMap();
-    private final Long2LongOpenHashMap chunkLastTouched = new Long2LongOpenHashMap();
-    private final Long2LongOpenHashMap lastCorruptionEvent = new Long2LongOpenHashMap();
-    private final Long2LongOpenHashMap lastPurificationEvent = new Long2LongOpenHashMap();
-    private final LongOpenHashSet mutatedCorruptedBiomeChunks = new LongOpenHashSet();
+    // Per-chunk value, event timestamps and mutated-biome flags, tiled by 32x32 chunk region.
+    private final ChunkCorruptionStore chunkStore = new ChunkCorruptionStore();
     
     private BlockPos voraxianBaseLocation = null;
     private boolean voraxianOverlordSlain = false;
@@ -125,12 +141,6 @@ public final class SalvationSavedData extends SavedData
         {
             progressionMeasure.put(s, 0L);
         }
-
-        // fastutil maps return 0 by default; make that explicit
-        chunkCorruption.defaultReturnValue(0);
-        chunkLastTouched.defaultReturnValue(0L);
-        lastCorruptionEvent.defaultReturnValue(0L);
-        lastPurificationEvent.defaultReturnValue(0L);
     }
 
     /**
@@ -139,10 +149,21 @@ public final class SalvationSavedData extends SavedData
      */
     public static SalvationSavedData get(@Nonnull ServerLevel level)
     {
-        SalvationSavedData data = level.getDataStorage().computeIfAbsent(
-            new Factory<>(SalvationSavedData::new, SalvationSavedData::load),
-            NAME
-        );
+        SalvationSavedData data = RESOLVED.get(level);
+
+        if (data != null && data.initializationChecked)
+        {
+            return data;
+        }
+
+        if (data == null)
+        {
+            data = level.getDataStorage().computeIfAbsent(
+                new Factory<>(SalvationSavedData::new, SalvationSavedData::load),
+                NAME
+            );
+            RESOLVED.put(level, data);
+        }
 
         // Dimension tag-based initialization of *global* corruption progression.
         if (!data.isInitialized() && ModTags.Dimensions.isInDimensionTag(level, ModTags.Dimensions.DIMENSIONS_STAGE_6))
@@ -208,9 +229,23 @@ public final class SalvationSavedData extends SavedData
 
         data.levelForSave = level;
 
+        // Before the dimension tags are bound every check above reads false; keep re-checking until they can be evaluated.
+        if (data.isInitialized() || ModTags.Dimensions.areDimensionTagsBound(level))
+        {
+            data.initializationChecked = true;
+        }
+
         return data;
     }
 
+    /**
+     * Drops the resolved data reference for a level that is unloading.
+     * The data holds its level, so the weak map alone would never release it.
+     */
+    public static void forget(@Nonnull ServerLevel level)
+    {
+        RESOLVED.remove(level);
+    }
 
     public ServerLevel getLevelForSave()
     {
@@ -262,6 +297,7 @@ public final class SalvationSavedData extends SavedData
         }
 
         data.initialized = tag.getBoolean(TAG_INITIALIZED);
+        data.onProgressionChanged();
 
         if (tag.contains(TAG_STAGE_HISTORY, Tag.TAG_LIST))
         {
@@ -302,39 +338,8 @@ public final class SalvationSavedData extends SavedData
             data.colonyStates.put(key, ColonyHandlerState.fromTag(coloniesTag.getCompound(key)));
         }
 
-        // chunk corruption list
-        if (tag.contains(TAG_CHUNK_CORRUPTION, Tag.TAG_LIST))
-        {
-            ListTag list = tag.getList(TAG_CHUNK_CORRUPTION, Tag.TAG_COMPOUND);
-            for (int i = 0; i < list.size(); i++)
-            {
-                CompoundTag e = list.getCompound(i);
-                if (!e.contains(TAG_CHUNK_KEY, Tag.TAG_LONG)) continue;
-                if (!e.contains(TAG_CHUNK_VALUE, Tag.TAG_INT)) continue;
-
-                long k = e.getLong(TAG_CHUNK_KEY);
-                int v = e.getInt(TAG_CHUNK_VALUE);
-                long t = e.contains(TAG_CHUNK_TOUCHED, Tag.TAG_LONG) ? e.getLong(TAG_CHUNK_TOUCHED) : 0L;
-                long c = e.contains(TAG_LAST_CORRUPTION_EVENT, Tag.TAG_LONG) ? e.getLong(TAG_LAST_CORRUPTION_EVENT) : 0L;
-                long p = e.contains(TAG_LAST_PURIFICATION_EVENT, Tag.TAG_LONG) ? e.getLong(TAG_LAST_PURIFICATION_EVENT) : 0L;
-
-                if (v > 0)
-                {
-                    data.chunkCorruption.put(k, v);
-                    if (t > 0) data.chunkLastTouched.put(k, t);
-                    if (c > 0) data.lastCorruptionEvent.put(k, c);
-                    if (p > 0) data.lastPurificationEvent.put(k, p);
-                }
-            }
-        }
-
-        if (tag.contains(TAG_MUTATED_CORRUPTED_BIOME_CHUNKS, Tag.TAG_LONG_ARRAY))
-        {
-            for (long chunkKey : tag.getLongArray(TAG_MUTATED_CORRUPTED_BIOME_CHUNKS))
-            {
-                data.mutatedCorruptedBiomeChunks.add(chunkKey);
-            }
-        }
+        // chunk corruption table (columnar, or the legacy per-chunk list)
+        data.readChunkTable(tag);
 
         if (tag.contains(TAG_VORAXIAN_BASE_LOCATION, Tag.TAG_LONG))
         {
@@ -410,37 +415,8 @@ public final class SalvationSavedData extends SavedData
         tag.put(TAG_STAGE_HISTORY, history);
         tag.putString(TAG_HIGHEST_STAGE_REACHED, highestStageReached.getSerializedName() + "");
 
-        // chunk corruption list (sparse)
-        ListTag chunks = new ListTag();
-        for (Long2IntMap.Entry e : chunkCorruption.long2IntEntrySet())
-        {
-            int v = e.getIntValue();
-            if (v <= 0) continue;
-
-            long k = e.getLongKey();
-            CompoundTag ct = new CompoundTag();
-            ct.putLong(TAG_CHUNK_KEY, k);
-            ct.putInt(TAG_CHUNK_VALUE, v);
-
-            long t = chunkLastTouched.get(k);
-            if (t > 0) ct.putLong(TAG_CHUNK_TOUCHED, t);
-
-            long c = lastCorruptionEvent.get(k);
-            if (c > 0) ct.putLong(TAG_LAST_CORRUPTION_EVENT, c);
-
-            long p = lastPurificationEvent.get(k);
-            if (p > 0) ct.putLong(TAG_LAST_PURIFICATION_EVENT, p);
-
-            chunks.add(ct);
-        }
-        tag.put(TAG_CHUNK_CORRUPTION, chunks);
-
-        long[] mutatedChunkArray = mutatedCorruptedBiomeChunks.toLongArray();
-
-        if (mutatedChunkArray != null && mutatedChunkArray.length > 0)
-        {
-            tag.put(TAG_MUTATED_CORRUPTED_BIOME_CHUNKS, new LongArrayTag(mutatedChunkArray));
-        }
+        // chunk corruption table (columnar)
+        writeChunkTable(tag, ChunkTableFormat.COLUMNS);
 
         if (voraxianBaseLocation != null)
         {
@@ -501,6 +477,7 @@ public final class SalvationSavedData extends SavedData
         if (next < 0) next = 0;
 
         progressionMeasure.put(source, next);
+        onProgressionChanged();
         setDirty();
     }
 
@@ -514,6 +491,7 @@ public final class SalvationSavedData extends SavedData
     public void clearProgressionMeasure(ProgressionSource source)
     {
         progressionMeasure.put(source, 0L);
+        onProgressionChanged();
         setDirty();
     }
 
@@ -527,6 +505,7 @@ public final class SalvationSavedData extends SavedData
         {
             progressionMeasure.put(source, 0L);
         }
+        onProgressionChanged();
         setDirty();
     }
 
@@ -537,13 +516,54 @@ public final class SalvationSavedData extends SavedData
      * @return the total amount of corruption progression
      */
     public long getTotalProgression()
+    {
+        return totalProgression;
+    }
+
+    /**
+     * Returns the live corruption stage for the current total progression.
+     * The value is memoized and only re-derived when progression changes or the stage rules reload.
+     *
+     * @return the current corruption stage
+     */
+    public @Nonnull CorruptionStage getCurrentStage()
+    {
+        if (currentStageRulesGeneration != CorruptionStageRulesManager.get().generation())
+        {
+            recomputeStage();
+        }
+
+        return currentStage;
+    }
+
+    /**
+     * Re-derives the memoized total progression and stage after a progression mutation.
+     */
+    private void onProgressionChanged()
     {
         long total = 0L;
         for (ProgressionSource source : ProgressionSource.values())
         {
             total += getProgressionMeasure(source);
         }
-        return total;
+        totalProgression = total;
+        recomputeStage();
+    }
+
+    private void recomputeStage()
+    {
+        final long progression = totalProgression;
+        CorruptionStage stage = CorruptionStage.STAGE_0_UNTRIGGERED;
+
+        if (progression > CorruptionStage.STAGE_6_TERMINAL.getThreshold()) stage = CorruptionStage.STAGE_6_TERMINAL;
+        else if (progression > CorruptionStage.STAGE_5_CRITICAL.getThreshold()) stage = CorruptionStage.STAGE_5_CRITICAL;
+        else if (progression > CorruptionStage.STAGE_4_DANGEROUS.getThreshold()) stage = CorruptionStage.STAGE_4_DANGEROUS;
+        else if (progression > CorruptionStage.STAGE_3_SPREADING.getThreshold()) stage = CorruptionStage.STAGE_3_SPREADING;
+        else if (progression > CorruptionStage.STAGE_2_AWAKENED.getThreshold()) stage = CorruptionStage.STAGE_2_AWAKENED;
+        else if (progression > CorruptionStage.STAGE_1_NORMAL.getThreshold()) stage = CorruptionStage.STAGE_1_NORMAL;
+
+        currentStage = stage;
+        currentStageRulesGeneration = CorruptionStageRulesManager.get().generation();
     }
 
     /**
@@ -600,16 +620,13 @@ public final class SalvationSavedData extends SavedData
         clearAllProgression();
         lastLoopGameTime = 0L;
         initialized = false;
+        initializationChecked = false;
         stageHistory.clear();
         colonyStates.clear();
         highestStageReached = CorruptionStage.STAGE_0_UNTRIGGERED;
 
         // clear chunk corruption too
-        chunkCorruption.clear();
-        chunkLastTouched.clear();
-        lastCorruptionEvent.clear();
-        lastPurificationEvent.clear();
-        mutatedCorruptedBiomeChunks.clear();
+        chunkStore.clear();
         voraxianBaseLocation = null;
         voraxianOverlordSlain = false;
         voraxianOverlordLastRespawnDayCheck = -1L;
@@ -622,15 +639,7 @@ public final class SalvationSavedData extends SavedData
 
     private CorruptionStage stageForCurrentProgression()
     {
-        long progression = getTotalProgression();
-        if (progression > CorruptionStage.STAGE_6_TERMINAL.getThreshold()) return CorruptionStage.STAGE_6_TERMINAL;
-        if (progression > CorruptionStage.STAGE_5_CRITICAL.getThreshold()) return CorruptionStage.STAGE_5_CRITICAL;
-        if (progression > CorruptionStage.STAGE_4_DANGEROUS.getThreshold()) return CorruptionStage.STAGE_4_DANGEROUS;
-        if (progression > CorruptionStage.STAGE_3_SPREADING.getThreshold()) return CorruptionStage.STAGE_3_SPREADING;
-        if (progression > CorruptionStage.STAGE_2_AWAKENED.getThreshold()) return CorruptionStage.STAGE_2_AWAKENED;
-        if (progression > CorruptionStage.STAGE_1_NORMAL.getThreshold()) return CorruptionStage.STAGE_1_NORMAL;
-
-        return CorruptionStage.STAGE_0_UNTRIGGERED;
+        return getCurrentStage();
     }
 
     /**
@@ -806,13 +815,163 @@ public final class SalvationSavedData extends SavedData
         setDirty();
     }
 
+    // -------------------------
+    // Chunk corruption table serialization
+    // -------------------------
+
+    /**
+     * On-disk layouts for the chunk corruption table.
+     * LEGACY_LIST is the original one-compound-per-chunk layout; it is still read on load and kept
+     * writable so the benchmark command can compare both formats.
+     */
+    public enum ChunkTableFormat
+    {
+        LEGACY_LIST, COLUMNS
+    }
+
+    /**
+     * Writes the chunk corruption table and the mutated-biome chunk set into the given tag.
+     *
+     * COLUMNS stores one LongArrayTag/IntArrayTag per field, index-aligned with the key column,
+     * so a 50k chunk world serializes to five arrays instead of 50k compounds.
+     */
+    public void writeChunkTable(@Nonnull final CompoundTag tag, @Nonnull final ChunkTableFormat format)
+    {
+        final long[] keys = chunkStore.copyCorruptedKeys();
+
+        if (format == ChunkTableFormat.COLUMNS)
+        {
+            final int[] values = new int[keys.length];
+            final long[] touched = new long[keys.length];
+            final long[] corruptionEvents = new long[keys.length];
+            final long[] purificationEvents = new long[keys.length];
+
+            for (int i = 0; i < keys.length; i++)
+            {
+                final long k = keys[i];
+                values[i] = chunkStore.getCorruption(k);
+                touched[i] = chunkStore.getLastTouched(k);
+                corruptionEvents[i] = chunkStore.getLastCorruptionEvent(k);
+                purificationEvents[i] = chunkStore.getLastPurificationEvent(k);
+            }
+
+            CompoundTag table = new CompoundTag();
+            table.putLongArray(TAG_CHUNK_TABLE_KEYS, keys);
+            table.putIntArray(TAG_CHUNK_TABLE_VALUES, values);
+            table.putLongArray(TAG_CHUNK_TABLE_TOUCHED, touched);
+            table.putLongArray(TAG_CHUNK_TABLE_CORRUPTION_EVENTS, corruptionEvents);
+            table.putLongArray(TAG_CHUNK_TABLE_PURIFICATION_EVENTS, purificationEvents);
+            tag.put(TAG_CHUNK_TABLE, table);
+        }
+        else
+        {
+            ListTag chunks = new ListTag();
+            for (long k : keys)
+            {
+                int v = chunkStore.getCorruption(k);
+                if (v <= 0) continue;
+
+                CompoundTag ct = new CompoundTag();
+                ct.putLong(TAG_CHUNK_KEY, k);
+                ct.putInt(TAG_CHUNK_VALUE, v);
+
+                long t = chunkStore.getLastTouched(k);
+                if (t > 0) ct.putLong(TAG_CHUNK_TOUCHED, t);
+
+                long c = chunkStore.getLastCorruptionEvent(k);
+                if (c > 0) ct.putLong(TAG_LAST_CORRUPTION_EVENT, c);
+
+                long p = chunkStore.getLastPurificationEvent(k);
+                if (p > 0) ct.putLong(TAG_LAST_PURIFICATION_EVENT, p);
+
+                chunks.add(ct);
+            }
+            tag.put(TAG_CHUNK_CORRUPTION, chunks);
+        }
+
+        long[] mutatedChunkArray = chunkStore.copyMutatedKeys();
+
+        if (mutatedChunkArray != null && mutatedChunkArray.length > 0)
+        {
+            tag.put(TAG_MUTATED_CORRUPTED_BIOME_CHUNKS, new LongArrayTag(mutatedChunkArray));
+        }
+    }
+
+    /**
+     * Replaces the chunk corruption table with the contents of the given tag.
+     * The columnar table is preferred; saves that predate it are upgraded from the legacy list,
+     * and are written back in the columnar layout on the next save.
+     */
+    public void readChunkTable(@Nonnull final CompoundTag tag)
+    {
+        chunkStore.clear();
+
+        if (tag.contains(TAG_CHUNK_TABLE, Tag.TAG_COMPOUND))
+        {
+            CompoundTag table = tag.getCompound(TAG_CHUNK_TABLE);
+            long[] keys = table.getLongArray(TAG_CHUNK_TABLE_KEYS);
+            int[] values = table.getIntArray(TAG_CHUNK_TABLE_VALUES);
+            long[] touched = table.getLongArray(TAG_CHUNK_TABLE_TOUCHED);
+            long[] corruptionEvents = table.getLongArray(TAG_CHUNK_TABLE_CORRUPTION_EVENTS);
+            long[] purificationEvents = table.getLongArray(TAG_CHUNK_TABLE_PURIFICATION_EVENTS);
+
+            if (values.length != keys.length)
+            {
+                LOGGER.warn("Chunk corruption table has {} keys but {} values; ignoring unmatched entries.", keys.length, values.length);
+            }
+
+            int n = Math.min(keys.length, values.length);
+            for (int i = 0; i < n; i++)
+            {
+                if (values[i] <= 0) continue;
+
+                long k = keys[i];
+                chunkStore.setCorruption(k, values[i]);
+                chunkStore.touch(k,
+                    i < touched.length ? touched[i] : 0L,
+                    i < corruptionEvents.length ? corruptionEvents[i] : 0L,
+                    i < purificationEvents.length ? purificationEvents[i] : 0L);
+            }
+        }
+        else if (tag.contains(TAG_CHUNK_CORRUPTION, Tag.TAG_LIST))
+        {
+            ListTag list = tag.getList(TAG_CHUNK_CORRUPTION, Tag.TAG_COMPOUND);
+            for (int i = 0; i < list.size(); i++)
+            {
+                CompoundTag e = list.getCompound(i);
+                if (!e.contains(TAG_CHUNK_KEY, Tag.TAG_LONG)) continue;
+                if (!e.contains(TAG_CHUNK_VALUE, Tag.TAG_INT)) continue;
+
+                long k = e.getLong(TAG_CHUNK_KEY);
+                int v = e.getInt(TAG_CHUNK_VALUE);
+                long t = e.contains(TAG_CHUNK_TOUCHED, Tag.TAG_LONG) ? e.getLong(TAG_CHUNK_TOUCHED) : 0L;
+                long c = e.contains(TAG_LAST_CORRUPTION_EVENT, Tag.TAG_LONG) ? e.getLong(TAG_LAST_CORRUPTION_EVENT) : 0L;
+                long p = e.contains(TAG_LAST_PURIFICATION_EVENT, Tag.TAG_LONG) ? e.getLong(TAG_LAST_PURIFICATION_EVENT) : 0L;
+
+                if (v > 0)
+                {
+                    chunkStore.setCorruption(k, v);
+                    chunkStore.touch(k, t, c, p);
+                }
+            }
+        }
+
+        if (tag.contains(TAG_MUTATED_CORRUPTED_BIOME_CHUNKS, Tag.TAG_LONG_ARRAY))
+        {
+            for (long chunkKey : tag.getLongArray(TAG_MUTATED_CORRUPTED_BIOME_CHUNKS))
+            {
+                chunkStore.markMutated(chunkKey);
+            }
+        }
+    }
+
     // -------------------------
     // NEW: Chunk corruption API (used by ChunkCorruptionSystem)
     // -------------------------
 
     public int getChunkCorruption(final long chunkKey)
     {
-        return chunkCorruption.get(chunkKey);
+        return chunkStore.getCorruption(chunkKey);
     }
 
     /**
@@ -820,7 +979,7 @@ public final class SalvationSavedData extends SavedData
      */
     public void setChunkCorruption(final long chunkKey, final int value, final long gameTime)
     {
-        int oldValue = chunkCorruption.get(chunkKey);
+        int oldValue = chunkStore.getCorruption(chunkKey);
         int change = value - oldValue;
 
         if (value <= 0)
@@ -829,10 +988,8 @@ public final class SalvationSavedData extends SavedData
             return;
         }
 
-        chunkCorruption.put(chunkKey, value);
-        if (gameTime > 0) chunkLastTouched.put(chunkKey, gameTime);
-        if (gameTime > 0 && change > 0) lastCorruptionEvent.put(chunkKey, gameTime);
-        if (gameTime > 0 && change < 0) lastPurificationEvent.put(chunkKey, gameTime);
+        chunkStore.setCorruption(chunkKey, value);
+        if (gameTime > 0) chunkStore.touch(chunkKey, gameTime, change > 0 ? gameTime : 0L, change < 0 ? gameTime : 0L);
         setDirty();
     }
 
@@ -848,7 +1005,7 @@ public final class SalvationSavedData extends SavedData
             return;
         }
 
-        chunkCorruption.put(chunkKey, value);
+        chunkStore.setCorruption(chunkKey, value);
         setDirty();
     }
 
@@ -860,7 +1017,7 @@ public final class SalvationSavedData extends SavedData
      */
     public long getChunkLastTouched(final long chunkKey)
     {
-        return chunkLastTouched.get(chunkKey);
+        return chunkStore.getLastTouched(chunkKey);
     }
 
     /**
@@ -871,36 +1028,32 @@ public final class SalvationSavedData extends SavedData
      */
     public long getLastCorruptionEvent(final long chunkKey)
     {
-        return lastCorruptionEvent.get(chunkKey);
+        return chunkStore.getLastCorruptionEvent(chunkKey);
     }
 
     public long getLastPurificationEvent(final long chunkKey)
     {
-        return lastPurificationEvent.get(chunkKey);
+        return chunkStore.getLastPurificationEvent(chunkKey);
     }
 
     public void removeChunkCorruption(final long chunkKey)
     {
-        boolean had = (chunkCorruption.remove(chunkKey) != 0);
-        chunkLastTouched.remove(chunkKey);
-        lastCorruptionEvent.remove(chunkKey);
-        lastPurificationEvent.remove(chunkKey);
-        if (had) setDirty();
+        if (chunkStore.removeCorruption(chunkKey)) setDirty();
     }
 
     public int getCorruptedChunkCount()
     {
-        return chunkCorruption.size();
+        return chunkStore.size();
     }
 
     public boolean hasMutatedCorruptedBiomeChunk(final long chunkKey)
     {
-        return mutatedCorruptedBiomeChunks.contains(chunkKey);
+        return chunkStore.isMutated(chunkKey);
     }
 
     public void markMutatedCorruptedBiomeChunk(final long chunkKey)
     {
-        if (mutatedCorruptedBiomeChunks.add(chunkKey))
+        if (chunkStore.markMutated(chunkKey))
         {
             setDirty();
         }
@@ -908,17 +1061,63 @@ public final class SalvationSavedData extends SavedData
 
     public void clearMutatedCorruptedBiomeChunk(final long chunkKey)
     {
-        if (mutatedCorruptedBiomeChunks.remove(chunkKey))
+        if (chunkStore.clearMutated(chunkKey))
         {
             setDirty();
         }
     }
 
     /**
-     * Snapshot keys so callers can iterate safely while mutating the underlying map.
+     * Returns a uniformly random corrupted chunk key. Callers must check {@link #getCorruptedChunkCount()} first.
+     */
+    public long getRandomCorruptedChunkKey(@Nonnull final RandomSource random)
+    {
+        return chunkStore.randomKey(random);
+    }
+
+    /**
+     * Fills out with distinct random chunks whose corruption qualifies them for corrupted-biome mutation
+     * and which have not been mutated yet.
+     *
+     * @return the number of keys written
+     */
+    public int sampleBiomeMutationCandidates(@Nonnull final RandomSource random, @Nonnull final long[] out)
+    {
+        return chunkStore.sampleMutationCandidates(random, out);
+    }
+
+    /**
+     * Fills out with distinct random chunks that are below the standard threshold and whose latest event was a purification.
+     *
+     * @return the number of keys written
+     */
+    public int sampleBiomePurificationCandidates(@Nonnull final RandomSource random, @Nonnull final long[] out)
+    {
+        return chunkStore.samplePurificationCandidates(random, out);
+    }
+
+    /**
+     * Returns every chunk whose corruption value or mutated-biome flag changed since the previous call, and resets the
+     * change set. Not persisted. Consumed by the client sync, which must be the only caller.
+     */
+    public long[] drainChangedChunkKeys()
+    {
+        return chunkStore.drainChanged();
+    }
+
+    /**
+     * Forgets the chunks changed since the last drain, without copying them (no client is viewing this level).
+     */
+    public void discardChangedChunkKeys()
+    {
+        chunkStore.discardChanged();
+    }
+
+    /**
+     * Snapshot keys so callers can iterate safely while mutating the underlying store.
      */
     public long[] copyCorruptedChunkKeys()
     {
-        return chunkCorruption.keySet().toLongArray();
+        return chunkStore.copyCorruptedKeys();
     }
 }
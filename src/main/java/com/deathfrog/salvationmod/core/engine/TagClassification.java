@@ -0,0 +1,164 @@
+package com.deathfrog.salvationmod.core.engine;
+
+import java.util.List;
+
+import javax.annotation.Nonnull;
+
+import com.deathfrog.salvationmod.ModTags;
+import com.deathfrog.salvationmod.SalvationMod;
+
+import net.minecraft.core.Holder;
+import net.minecraft.core.Registry;
+import net.minecraft.core.registries.BuiltInRegistries;
+import net.minecraft.tags.TagKey;
+import net.minecraft.world.entity.EntityType;
+import net.minecraft.world.level.block.Block;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.TagsUpdatedEvent;
+
+/**
+ * Precomputed membership of every entity type and block in the salvation tags that are tested on hot event paths
+ * (spawn checks, deaths, damage, conversions, block break/place progression).
+ *
+ * Each registry entry maps to an int bitmask of its tags, stored in an array indexed by registry id, so a single
+ * lookup answers every salvation tag question about it. The tables are rebuilt from the tag contents on
+ * {@link TagsUpdatedEvent} and published as one immutable snapshot, so the client and server threads of an
+ * integrated server can read them concurrently.
+ */
+@EventBusSubscriber(modid = SalvationMod.MODID)
+public final class TagClassification
+{
+    private TagClassification() {}
+
+    // Entity type flags
+    public static final int CORRUPTED_ENTITY =              1 << 0;
+    public static final int VORAXIAN =                      1 << 1;
+    public static final int VORAXIAN_MINION =               1 << 2;
+    public static final int CORRUPTABLE_ENTITY =            1 << 3;
+    public static final int CORRUPTION_KILL_MINOR =         1 << 4;
+    public static final int CORRUPTION_KILL_MAJOR =         1 << 5;
+    public static final int CORRUPTION_KILL_EXTREME =       1 << 6;
+    public static final int PURIFICATION_KILL_MINOR =       1 << 7;
+    public static final int PURIFICATION_KILL_MAJOR =       1 << 8;
+    public static final int PURIFICATION_KILL_EXTREME =     1 << 9;
+
+    // Block flags
+    public static final int CORRUPTION_BREAK_TRIVIAL =      1 << 0;
+    public static final int CORRUPTION_BREAK_MINOR =        1 << 1;
+    public static final int CORRUPTION_BREAK_MAJOR =        1 << 2;
+    public static final int CORRUPTION_BREAK_EXTREME =      1 << 3;
+    public static final int PURIFICATION_BREAK_TRIVIAL =    1 << 4;
+    public static final int PURIFICATION_BREAK_MINOR =      1 << 5;
+    public static final int PURIFICATION_BREAK_MAJOR =      1 << 6;
+    public static final int PURIFICATION_BREAK_EXTREME =    1 << 7;
+    public static final int CORRUPTION_PLACE_TRIVIAL =      1 << 8;
+    public static final int CORRUPTION_PLACE_MINOR =        1 << 9;
+    public static final int CORRUPTION_PLACE_MAJOR =        1 << 10;
+    public static final int CORRUPTION_PLACE_EXTREME =      1 << 11;
+    public static final int PURIFICATION_PLACE_TRIVIAL =    1 << 12;
+    public static final int PURIFICATION_PLACE_MINOR =      1 << 13;
+    public static final int PURIFICATION_PLACE_MAJOR =      1 << 14;
+    public static final int PURIFICATION_PLACE_EXTREME =    1 << 15;
+
+    private record Flag<T>(TagKey<T> tag, int bit) {}
+
+    private static final List<Flag<EntityType<?>>> ENTITY_FLAGS = List.of(
+        new Flag<>(ModTags.Entities.CORRUPTED_ENTITY, CORRUPTED_ENTITY),
+        new Flag<>(ModTags.Entities.VORAXIAN, VORAXIAN),
+        new Flag<>(ModTags.Entities.VORAXIAN_MINION, VORAXIAN_MINION),
+        new Flag<>(ModTags.Entities.CORRUPTABLE_ENTITY, CORRUPTABLE_ENTITY),
+        new Flag<>(ModTags.Entities.CORRUPTION_KILL_MINOR, CORRUPTION_KILL_MINOR),
+        new Flag<>(ModTags.Entities.CORRUPTION_KILL_MAJOR, CORRUPTION_KILL_MAJOR),
+        new Flag<>(ModTags.Entities.CORRUPTION_KILL_EXTREME, CORRUPTION_KILL_EXTREME),
+        new Flag<>(ModTags.Entities.PURIFICATION_KILL_MINOR, PURIFICATION_KILL_MINOR),
+        new Flag<>(ModTags.Entities.PURIFICATION_KILL_MAJOR, PURIFICATION_KILL_MAJOR),
+        new Flag<>(ModTags.Entities.PURIFICATION_KILL_EXTREME, PURIFICATION_KILL_EXTREME));
+
+    private static final List<Flag<Block>> BLOCK_FLAGS = List.of(
+        new Flag<>(ModTags.Blocks.CORRUPTION_BREAK_TRIVIAL, CORRUPTION_BREAK_TRIVIAL),
+        new Flag<>(ModTags.Blocks.CORRUPTION_BREAK_MINOR, CORRUPTION_BREAK_MINOR),
+        new Flag<>(ModTags.Blocks.CORRUPTION_BREAK_MAJOR, CORRUPTION_BREAK_MAJOR),
+        new Flag<>(ModTags.Blocks.CORRUPTION_BREAK_EXTREME, CORRUPTION_BREAK_EXTREME),
+        new Flag<>(ModTags.Blocks.PURIFICATION_BREAK_TRIVIAL, PURIFICATION_BREAK_TRIVIAL),
+        new Flag<>(ModTags.Blocks.PURIFICATION_BREAK_MINOR, PURIFICATION_BREAK_MINOR),
+        new Flag<>(ModTags.Blocks.PURIFICATION_BREAK_MAJOR, PURIFICATION_BREAK_MAJOR),
+        new Flag<>(ModTags.Blocks.PURIFICATION_BREAK_EXTREME, PURIFICATION_BREAK_EXTREME),
+        new Flag<>(ModTags.Blocks.CORRUPTION_PLACE_TRIVIAL, CORRUPTION_PLACE_TRIVIAL),
+        new Flag<>(ModTags.Blocks.CORRUPTION_PLACE_MINOR, CORRUPTION_PLACE_MINOR),
+        new Flag<>(ModTags.Blocks.CORRUPTION_PLACE_MAJOR, CORRUPTION_PLACE_MAJOR),
+        new Flag<>(ModTags.Blocks.CORRUPTION_PLACE_EXTREME, CORRUPTION_PLACE_EXTREME),
+        new Flag<>(ModTags.Blocks.PURIFICATION_PLACE_TRIVIAL, PURIFICATION_PLACE_TRIVIAL),
+        new Flag<>(ModTags.Blocks.PURIFICATION_PLACE_MINOR, PURIFICATION_PLACE_MINOR),
+        new Flag<>(ModTags.Blocks.PURIFICATION_PLACE_MAJOR, PURIFICATION_PLACE_MAJOR),
+        new Flag<>(ModTags.Blocks.PURIFICATION_PLACE_EXTREME, PURIFICATION_PLACE_EXTREME));
+
+    private record Tables(int[] entityFlags, int[] blockFlags) {}
+
+    private static volatile Tables tables = null;
+
+    /**
+     * @return the salvation tag flags of the entity type (see the entity flag constants)
+     */
+    public static int entityFlags(@Nonnull final EntityType<?> entityType)
+    {
+        return lookup(tables().entityFlags(), BuiltInRegistries.ENTITY_TYPE.getId(entityType));
+    }
+
+    /**
+     * @return the salvation tag flags of the block (see the block flag constants)
+     */
+    public static int blockFlags(@Nonnull final Block block)
+    {
+        return lookup(tables().blockFlags(), BuiltInRegistries.BLOCK.getId(block));
+    }
+
+    @SubscribeEvent
+    public static void onTagsUpdated(final TagsUpdatedEvent event)
+    {
+        tables = build();
+    }
+
+    private static int lookup(final int[] flags, final int id)
+    {
+        return id >= 0 && id < flags.length ? flags[id] : 0;
+    }
+
+    private static Tables tables()
+    {
+        Tables current = tables;
+
+        // Queried before the first tag load: classify from whatever is bound now; replaced on the next reload.
+        if (current == null)
+        {
+            current = build();
+            tables = current;
+        }
+
+        return current;
+    }
+
+    private static Tables build()
+    {
+        return new Tables(classify(BuiltInRegistries.ENTITY_TYPE, ENTITY_FLAGS), classify(BuiltInRegistries.BLOCK, BLOCK_FLAGS));
+    }
+
+    private static <T> int[] classify(final Registry<T> registry, final List<Flag<T>> flags)
+    {
+        final int[] table = new int[registry.size()];
+
+        for (final Flag<T> flag : flags)
+        {
+            for (final Holder<T> holder : registry.getTagOrEmpty(flag.tag()))
+            {
+                final int id = registry.getId(holder.value());
+                if (id >= 0 && id < table.length)
+                {
+                    table[id] |= flag.bit();
+                }
+            }
+        }
+
+        return table;
+    }
+}
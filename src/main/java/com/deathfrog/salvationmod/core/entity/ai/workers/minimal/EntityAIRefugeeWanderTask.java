@@ -121,69 +121,77 @@ public class EntityAIRefugeeWanderTask
      * Tries to rehydrate the given citizen entity as a refugee visitor by checking if it has the necessary data and enabling the refugee wander task if so.
      * 
      * @param citizen the citizen entity to be rehydrated
+     * @return false if the citizen is a refugee whose wander task could not be installed yet (retry later), true otherwise
      */
-    public static void tryRehydrate(final AbstractEntityCitizen citizen)
+    public static boolean tryRehydrate(final AbstractEntityCitizen citizen)
     {
         if (!(citizen instanceof VisitorCitizen))
         {
-            return;
+            return true;
         }
 
         final AttachmentType<ModAttachments.RefugeeWanderData> attachmentType = ModAttachments.REFUGEE_WANDER.get();
-        if (attachmentType == null)
+        if (attachmentType == null || !citizen.hasData(attachmentType))
         {
-            return;
+            return true;
         }
 
         final ModAttachments.RefugeeWanderData data = citizen.getData(attachmentType);
         if (data == null || !data.enabled())
         {
-            return;
+            return true;
         }
 
         final ICitizenData citizenData = citizen.getCitizenData();
         if (!(citizenData instanceof IVisitorData visitorData))
         {
-            return;
+            return false;
+        }
+
+        // The visitor data may still point at a previous entity (or none) right after load; retry until it is this one.
+        if (visitorData.getEntity().orElse(null) != citizen)
+        {
+            return false;
         }
 
-        ensureInstalled(visitorData);
+        return ensureInstalled(visitorData);
     }
 
     /**
      * Ensures that the provided visitor entity has the necessary data to be a refugee visitor, and that its state machine is initialized with the refugee wander task.
      *
      * @param visitor the visitor entity to be installed
+     * @return true if the wander task is installed on the visitor's current entity (now or previously)
      */
-    private static void ensureInstalled(final IVisitorData visitor)
+    private static boolean ensureInstalled(final IVisitorData visitor)
     {
         if (visitor == null || visitor.getEntity().isEmpty())
         {
-            return;
+            return false;
         }
 
         final AbstractEntityCitizen citizenEntity = visitor.getEntity().get();
         if (!(citizenEntity instanceof VisitorCitizen visitorEntity))
         {
-            return;
+            return false;
         }
 
         final AttachmentType<ModAttachments.RefugeeWanderData> attachmentType = ModAttachments.REFUGEE_WANDER.get();
         if (attachmentType == null)
         {
-            return;
+            return false;
         }
 
         final ModAttachments.RefugeeWanderData data = citizenEntity.getData(attachmentType);
         if (data == null || !data.enabled())
         {
-            return;
+            return false;
         }
 
         final Integer previousEntityId = INSTALLED_VISITOR_ENTITY_IDS.put(citizenEntity.getUUID(), citizenEntity.getId());
         if (previousEntityId != null && previousEntityId.intValue() == citizenEntity.getId())
         {
-            return;
+            return true;
         }
 
         final ITickRateStateMachine<IState> stateMachine = visitorEntity.getEntityStateController();
@@ -193,6 +201,7 @@ public class EntityAIRefugeeWanderTask
             () -> LOGGER.info("Colony {} Initializing Refugee {} with their wander task.", visitor.getColony().getID(), visitor.getUUID()));
 
         new EntityAIRefugeeWanderTask(visitor).init(stateMachine);
+        return true;
     }
 
     /**
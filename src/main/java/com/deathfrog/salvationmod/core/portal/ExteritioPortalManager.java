@@ -11,6 +11,7 @@ import com.deathfrog.salvationmod.ModBlocks;
 import com.deathfrog.salvationmod.ModDimensions;
 import com.deathfrog.salvationmod.SalvationMod;
 import com.deathfrog.salvationmod.core.blocks.ExteritioPortalBlock;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
 import net.minecraft.BlockUtil;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
@@ -32,7 +33,6 @@ public final class ExteritioPortalManager
     private static final int SEARCH_RADIUS = 64;
     private static final int LAND_SEARCH_RADIUS = 64;
     private static final int PLACEMENT_RADIUS = 16;
-    private static final int PORTAL_SURFACE_SCAN_DEPTH = 6;
 
     private ExteritioPortalManager()
     {
@@ -174,8 +174,9 @@ public final class ExteritioPortalManager
 
     /**
      * Finds the closest portal position to the given ideal position within the given radius.
-     * The closest portal position is the position of a portal block that is closest to the ideal position.
-     * If there is no portal block within the given radius, null is returned.
+     * A nearby portal shape (an unlit frame to light) is preferred; otherwise the closest lit portal
+     * is taken from the {@link ExteritioPortalRegistry} index.
+     * If there is no portal within the given radius, an empty optional is returned.
      *
      * @param level the level accessor to use for block lookups
      * @param idealPos the ideal position to search for a portal
@@ -201,7 +202,8 @@ public final class ExteritioPortalManager
 
     /**
      * Finds the closest portal block to the given ideal position within the given radius.
-     * The closest portal block is the block that is closest to the ideal position.
+     * The closest portal block is the block that is closest to the ideal position, answered from the
+     * {@link ExteritioPortalRegistry} index rather than by scanning blocks.
      * If there is no portal block within the given radius, an empty optional is returned.
      *
      * @param level the level accessor to use for block lookups
@@ -209,44 +211,17 @@ public final class ExteritioPortalManager
      * @param radius the radius to search for a portal block
      * @return the closest portal block to the given ideal position within the given radius, or an empty optional if unable to find portal block
      */
-    private static Optional<BlockPos> findClosestPortalPosition(final ServerLevel level, final BlockPos idealPos, final int radius)
+    private static Optional<BlockPos> findClosestPortalPosition(final ServerLevel level, final @Nonnull BlockPos idealPos, final int radius)
     {
-        BlockPos bestPos = null;
-        double bestDistance = Double.MAX_VALUE;
-
-        for (int dx = -radius; dx <= radius; dx++)
-        {
-            for (int dz = -radius; dz <= radius; dz++)
-            {
-                final int x = idealPos.getX() + dx;
-                final int z = idealPos.getZ() + dz;
-                for (int y = level.getMaxBuildHeight() - 1; y >= level.getMinBuildHeight(); y--)
-                {
-                    final BlockPos pos = new BlockPos(x, y, z);
-                    if (!level.getBlockState(pos).is(NullnessBridge.assumeNonnull(ModBlocks.EXTERITIO_PORTAL.get())))
-                    {
-                        continue;
-                    }
-
-                    final double distance = pos.distSqr(idealPos);
-                    if (distance < bestDistance)
-                    {
-                        bestDistance = distance;
-                        bestPos = pos.immutable();
-                    }
-                }
-            }
-        }
-
-        return Optional.ofNullable(bestPos);
+        return Optional.ofNullable(ExteritioPortalRegistry.get(level).findNearest(level, idealPos, radius));
     }
 
     /**
      * Finds a portal shape that is nearby to the given ideal position.
-     * The search is performed in a square area of the given radius around the ideal position.
-     * The search is performed in a vertical column, starting from the surface of the world and going down.
-     * The search will terminate as soon as a portal shape is found, or when the entire column has been searched.
-     * If a portal shape is found, it is returned as a LocatedPortal, along with its position.
+     * Candidates are the frame blocks indexed by the {@link ExteritioPortalRegistry} within the given Manhattan radius;
+     * the cell above each one is probed as the bottom of a portal interior, nearest column first and lowest first.
+     * No blocks are scanned outside the indexed frames.
+     * If a portal shape is found, it is lit if needed and returned as a LocatedPortal, along with its position.
      * If no portal shape is found, an empty optional is returned.
      *
      * @param level the level accessor to use for block lookups
@@ -261,48 +236,45 @@ public final class ExteritioPortalManager
         final int radius,
         final Direction.Axis preferredAxis)
     {
-        final int minY = level.getMinBuildHeight() + 1;
-        final int maxY = level.getMaxBuildHeight() - 1;
-
-        BlockPos idealY = idealPos.atY(0);
+        final LongArrayList frames = new LongArrayList();
+        ExteritioPortalRegistry.get(level).collectFrames(level, idealPos, radius, frames);
+        if (frames.isEmpty()) return Optional.empty();
+
+        frames.sort((a, b) -> {
+            final long adx = BlockPos.getX(a) - idealPos.getX();
+            final long adz = BlockPos.getZ(a) - idealPos.getZ();
+            final long bdx = BlockPos.getX(b) - idealPos.getX();
+            final long bdz = BlockPos.getZ(b) - idealPos.getZ();
+            final int byColumn = Long.compare(adx * adx + adz * adz, bdx * bdx + bdz * bdz);
+            return byColumn != 0 ? byColumn : Integer.compare(BlockPos.getY(a), BlockPos.getY(b));
+        });
 
-        if (idealY == null) return Optional.empty();
+        final int maxY = level.getMaxBuildHeight() - 1;
 
-        for (final BlockPos columnPos : BlockPos.withinManhattanStream(idealY, radius, 0, radius)
-            .map(BlockPos::immutable)
-            .sorted(Comparator.comparingDouble(pos -> {
-                final long dx = pos.getX() - idealPos.getX();
-                final long dz = pos.getZ() - idealPos.getZ();
-                return (double) (dx * dx + dz * dz);
-            }))
-            .toList())
+        for (int i = 0; i < frames.size(); i++)
         {
-            final int surfaceY = level.getHeight(Heightmap.Types.MOTION_BLOCKING_NO_LEAVES, columnPos.getX(), columnPos.getZ()) - 1;
-            final int startY = Math.max(minY, surfaceY - PORTAL_SURFACE_SCAN_DEPTH);
-            final int endY = Math.min(maxY, surfaceY + PORTAL_SURFACE_SCAN_DEPTH);
-
-            for (int y = startY; y <= endY; y++)
+            final BlockPos interiorPos = BlockPos.of(frames.getLong(i)).above();
+            if (interiorPos.getY() > maxY) continue;
+
+            final Optional<ExteritioPortalShape> shape = ExteritioPortalShape.findPortalShape(
+                level,
+                interiorPos,
+                ExteritioPortalShape::isValid,
+                preferredAxis
+            );
+            if (shape.isEmpty())
             {
-                final Optional<ExteritioPortalShape> shape = ExteritioPortalShape.findPortalShape(
-                    level,
-                    new BlockPos(columnPos.getX(), y, columnPos.getZ()),
-                    ExteritioPortalShape::isValid,
-                    preferredAxis
-                );
-                if (shape.isEmpty())
-                {
-                    continue;
-                }
-
-                final ExteritioPortalShape portalShape = shape.get();
-                if (!portalShape.isComplete())
-                {
-                    portalShape.createPortalBlocks();
-                }
+                continue;
+            }
 
-                final BlockUtil.FoundRectangle rectangle = portalShape.asRectangle();
-                return Optional.of(new LocatedPortal(rectangle, rectangle.minCorner));
+            final ExteritioPortalShape portalShape = shape.get();
+            if (!portalShape.isComplete())
+            {
+                portalShape.createPortalBlocks();
             }
+
+            final BlockUtil.FoundRectangle rectangle = portalShape.asRectangle();
+            return Optional.of(new LocatedPortal(rectangle, rectangle.minCorner));
         }
 
         return Optional.empty();
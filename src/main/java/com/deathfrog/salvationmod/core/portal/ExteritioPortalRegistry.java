@@ -0,0 +1,315 @@
+package com.deathfrog.salvationmod.core.portal;
+
+import javax.annotation.Nonnull;
+
+import com.deathfrog.mctradepost.api.util.NullnessBridge;
+import com.deathfrog.salvationmod.ModBlocks;
+import com.deathfrog.salvationmod.SalvationMod;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.HolderLookup.Provider;
+import net.minecraft.core.SectionPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.Tag;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.saveddata.SavedData;
+import net.neoforged.bus.api.SubscribeEvent;
+import net.neoforged.fml.common.EventBusSubscriber;
+import net.neoforged.neoforge.event.level.ChunkEvent;
+
+/**
+ * Persistent per-dimension index of Exteritio portal block and portal frame block positions, bucketed by chunk.
+ *
+ * Kept current by {@link com.deathfrog.salvationmod.core.blocks.ExteritioPortalBlock} and
+ * {@link com.deathfrog.salvationmod.core.blocks.NeutralizedBlightwoodBlock} placement and removal, which covers
+ * portals lit by {@link ExteritioPortalShape#createPortalBlocks()}, portals generated at a destination, and blocks
+ * broken by any means. Blocks that predate the index are picked up when their chunk loads (a palette check makes
+ * this nearly free for chunks without either block).
+ *
+ * Destination lookup queries the buckets within the search radius instead of scanning the area block by block:
+ * frames are probed for a portal shape only above indexed frame blocks, and lit portals are a nearest-neighbour query.
+ */
+@EventBusSubscriber(modid = SalvationMod.MODID)
+public final class ExteritioPortalRegistry extends SavedData
+{
+    public static final String NAME = "salvation_exteritio_portals";
+    private static final String TAG_PORTALS = "portals";
+    private static final String TAG_FRAMES = "frames";
+
+    // chunkKey -> BlockPos.asLong() of every portal block in that chunk
+    private final Long2ObjectOpenHashMap<LongOpenHashSet> portalsByChunk = new Long2ObjectOpenHashMap<>();
+
+    // chunkKey -> BlockPos.asLong() of every portal frame block in that chunk
+    private final Long2ObjectOpenHashMap<LongOpenHashSet> framesByChunk = new Long2ObjectOpenHashMap<>();
+
+    public ExteritioPortalRegistry()
+    {
+    }
+
+    public static ExteritioPortalRegistry get(@Nonnull final ServerLevel level)
+    {
+        return level.getDataStorage().computeIfAbsent(new Factory<>(ExteritioPortalRegistry::new, ExteritioPortalRegistry::load), NAME);
+    }
+
+    public static ExteritioPortalRegistry load(final CompoundTag tag, final Provider registries)
+    {
+        final ExteritioPortalRegistry registry = new ExteritioPortalRegistry();
+
+        if (tag.contains(TAG_PORTALS, Tag.TAG_LONG_ARRAY))
+        {
+            for (final long pos : tag.getLongArray(TAG_PORTALS))
+            {
+                bucket(registry.portalsByChunk, pos).add(pos);
+            }
+        }
+
+        if (tag.contains(TAG_FRAMES, Tag.TAG_LONG_ARRAY))
+        {
+            for (final long pos : tag.getLongArray(TAG_FRAMES))
+            {
+                bucket(registry.framesByChunk, pos).add(pos);
+            }
+        }
+
+        return registry;
+    }
+
+    @Override
+    public @Nonnull CompoundTag save(@Nonnull final CompoundTag tag, @Nonnull final Provider registries)
+    {
+        tag.putLongArray(TAG_PORTALS, flatten(portalsByChunk));
+        tag.putLongArray(TAG_FRAMES, flatten(framesByChunk));
+        return tag;
+    }
+
+    /**
+     * Records a portal block. Called when a portal block is placed.
+     */
+    public void add(@Nonnull final BlockPos pos)
+    {
+        if (addTo(portalsByChunk, pos))
+        {
+            setDirty();
+        }
+    }
+
+    /**
+     * Forgets a portal block. Called when a portal block is removed.
+     */
+    public void remove(@Nonnull final BlockPos pos)
+    {
+        if (removeFrom(portalsByChunk, pos))
+        {
+            setDirty();
+        }
+    }
+
+    /**
+     * Records a portal frame block. Called when a frame block is placed.
+     */
+    public void addFrame(@Nonnull final BlockPos pos)
+    {
+        if (addTo(framesByChunk, pos))
+        {
+            setDirty();
+        }
+    }
+
+    /**
+     * Forgets a portal frame block. Called when a frame block is removed.
+     */
+    public void removeFrame(@Nonnull final BlockPos pos)
+    {
+        if (removeFrom(framesByChunk, pos))
+        {
+            setDirty();
+        }
+    }
+
+    /**
+     * Collects the indexed frame blocks whose column is within the given Manhattan radius of the given position.
+     * Stale entries (the block is loaded and no longer a frame block) are dropped as they are encountered.
+     *
+     * @param out receives the {@link BlockPos#asLong()} of each frame block, in no particular order
+     */
+    public void collectFrames(@Nonnull final ServerLevel level, @Nonnull final BlockPos idealPos, final int radius, @Nonnull final LongArrayList out)
+    {
+        final Block frameBlock = ModBlocks.NEUTRALIZED_BLIGHTWOOD.get();
+        final int minChunkX = SectionPos.blockToSectionCoord(idealPos.getX() - radius);
+        final int maxChunkX = SectionPos.blockToSectionCoord(idealPos.getX() + radius);
+        final int minChunkZ = SectionPos.blockToSectionCoord(idealPos.getZ() - radius);
+        final int maxChunkZ = SectionPos.blockToSectionCoord(idealPos.getZ() + radius);
+
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++)
+        {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++)
+            {
+                final LongOpenHashSet positions = framesByChunk.get(ChunkPos.asLong(chunkX, chunkZ));
+                if (positions == null) continue;
+
+                final LongIterator it = positions.iterator();
+                while (it.hasNext())
+                {
+                    final long packed = it.nextLong();
+                    final BlockPos pos = BlockPos.of(packed);
+                    if (Math.abs(pos.getX() - idealPos.getX()) + Math.abs(pos.getZ() - idealPos.getZ()) > radius) continue;
+
+                    if (level.isLoaded(pos) && !level.getBlockState(pos).is(NullnessBridge.assumeNonnull(frameBlock)))
+                    {
+                        it.remove();
+                        setDirty();
+                        continue;
+                    }
+
+                    out.add(packed);
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns the indexed portal block nearest to the given position whose column is within the given horizontal radius.
+     * Stale entries (the block is loaded and no longer a portal) are dropped as they are encountered.
+     *
+     * @return the nearest portal block, or null if none is indexed in range
+     */
+    public BlockPos findNearest(@Nonnull final ServerLevel level, @Nonnull final BlockPos idealPos, final int radius)
+    {
+        final Block portalBlock = ModBlocks.EXTERITIO_PORTAL.get();
+        final int minChunkX = SectionPos.blockToSectionCoord(idealPos.getX() - radius);
+        final int maxChunkX = SectionPos.blockToSectionCoord(idealPos.getX() + radius);
+        final int minChunkZ = SectionPos.blockToSectionCoord(idealPos.getZ() - radius);
+        final int maxChunkZ = SectionPos.blockToSectionCoord(idealPos.getZ() + radius);
+
+        BlockPos bestPos = null;
+        double bestDistance = Double.MAX_VALUE;
+
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++)
+        {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++)
+            {
+                final LongOpenHashSet positions = portalsByChunk.get(ChunkPos.asLong(chunkX, chunkZ));
+                if (positions == null) continue;
+
+                final LongIterator it = positions.iterator();
+                while (it.hasNext())
+                {
+                    final BlockPos pos = BlockPos.of(it.nextLong());
+                    if (Math.abs(pos.getX() - idealPos.getX()) > radius || Math.abs(pos.getZ() - idealPos.getZ()) > radius) continue;
+
+                    final double distance = pos.distSqr(idealPos);
+                    if (distance >= bestDistance) continue;
+
+                    if (level.isLoaded(pos) && !level.getBlockState(pos).is(NullnessBridge.assumeNonnull(portalBlock)))
+                    {
+                        it.remove();
+                        setDirty();
+                        continue;
+                    }
+
+                    bestDistance = distance;
+                    bestPos = pos;
+                }
+            }
+        }
+
+        return bestPos;
+    }
+
+    /**
+     * Indexes portal and frame blocks in a freshly loaded chunk, so portals built before the registry existed are found.
+     */
+    @SubscribeEvent
+    public static void onChunkLoad(final ChunkEvent.Load event)
+    {
+        if (!(event.getLevel() instanceof ServerLevel level)) return;
+        if (!(event.getChunk() instanceof LevelChunk chunk)) return;
+
+        final Block portalBlock = ModBlocks.EXTERITIO_PORTAL.get();
+        final Block frameBlock = ModBlocks.NEUTRALIZED_BLIGHTWOOD.get();
+        final LevelChunkSection[] sections = chunk.getSections();
+        ExteritioPortalRegistry registry = null;
+
+        for (int i = 0; i < sections.length; i++)
+        {
+            final LevelChunkSection section = sections[i];
+            if (section == null || section.hasOnlyAir()) continue;
+            if (!section.maybeHas(state -> state.is(NullnessBridge.assumeNonnull(portalBlock)) || state.is(NullnessBridge.assumeNonnull(frameBlock)))) continue;
+
+            final int baseY = SectionPos.sectionToBlockCoord(chunk.getSectionYFromSectionIndex(i));
+            for (int y = 0; y < 16; y++)
+            {
+                for (int z = 0; z < 16; z++)
+                {
+                    for (int x = 0; x < 16; x++)
+                    {
+                        final BlockState state = section.getBlockState(x, y, z);
+                        final boolean portal = state.is(NullnessBridge.assumeNonnull(portalBlock));
+                        if (!portal && !state.is(NullnessBridge.assumeNonnull(frameBlock))) continue;
+
+                        if (registry == null) registry = get(level);
+                        final BlockPos pos = new BlockPos(chunk.getPos().getMinBlockX() + x, baseY + y, chunk.getPos().getMinBlockZ() + z);
+                        if (portal)
+                        {
+                            registry.add(pos);
+                        }
+                        else
+                        {
+                            registry.addFrame(pos);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static boolean addTo(final Long2ObjectOpenHashMap<LongOpenHashSet> byChunk, final BlockPos pos)
+    {
+        final long packed = pos.asLong();
+        return bucket(byChunk, packed).add(packed);
+    }
+
+    private static boolean removeFrom(final Long2ObjectOpenHashMap<LongOpenHashSet> byChunk, final BlockPos pos)
+    {
+        final long packed = pos.asLong();
+        final long chunkKey = chunkKeyOf(packed);
+        final LongOpenHashSet positions = byChunk.get(chunkKey);
+
+        if (positions == null || !positions.remove(packed)) return false;
+
+        if (positions.isEmpty())
+        {
+            byChunk.remove(chunkKey);
+        }
+        return true;
+    }
+
+    private static long[] flatten(final Long2ObjectOpenHashMap<LongOpenHashSet> byChunk)
+    {
+        final LongArrayList all = new LongArrayList();
+        for (final LongOpenHashSet positions : byChunk.values())
+        {
+            all.addAll(positions);
+        }
+        return all.toLongArray();
+    }
+
+    private static LongOpenHashSet bucket(final Long2ObjectOpenHashMap<LongOpenHashSet> byChunk, final long packedPos)
+    {
+        return byChunk.computeIfAbsent(chunkKeyOf(packedPos), k -> new LongOpenHashSet());
+    }
+
+    private static long chunkKeyOf(final long packedPos)
+    {
+        return ChunkPos.asLong(SectionPos.blockToSectionCoord(BlockPos.getX(packedPos)), SectionPos.blockToSectionCoord(BlockPos.getZ(packedPos)));
+    }
+}
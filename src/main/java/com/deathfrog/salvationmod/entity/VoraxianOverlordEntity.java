@@ -10,6 +10,7 @@ import com.deathfrog.salvationmod.ModEnchantments;
 import com.deathfrog.salvationmod.ModEntityTypes;
 import com.deathfrog.salvationmod.ModTags;
 import com.deathfrog.salvationmod.core.engine.CombatEffects;
+import com.deathfrog.salvationmod.core.engine.TagClassification;
 import com.deathfrog.salvationmod.entity.goals.RandomFloatAroundGoal;
 import com.deathfrog.salvationmod.entity.goals.VoraxianHurtByTargetGoal;
 import com.deathfrog.salvationmod.entity.goals.VoraxianOverlordCombatGoal;
@@ -632,6 +633,6 @@ public class VoraxianOverlordEntity extends Monster implements RangedAttackMob
      */
     private boolean isConsumableVoraxian(final @Nonnull LivingEntity entity)
     {
-        return entity != this && entity.getType().is(ModTags.Entities.VORAXIAN_MINION);
+        return entity != this && (TagClassification.entityFlags(entity.getType()) & TagClassification.VORAXIAN_MINION) != 0;
     }
 }
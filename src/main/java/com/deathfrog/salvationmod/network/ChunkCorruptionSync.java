@@ -1,66 +1,192 @@
 package com.deathfrog.salvationmod.network;
 
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
 import com.deathfrog.salvationmod.SalvationMod;
 import com.deathfrog.salvationmod.core.engine.SalvationManager;
 import com.deathfrog.salvationmod.core.engine.SalvationSavedData;
 import com.deathfrog.salvationmod.core.engine.CorruptionStage;
 
-import net.minecraft.nbt.CompoundTag;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
 import net.neoforged.bus.api.SubscribeEvent;
 import net.neoforged.fml.common.EventBusSubscriber;
-import net.neoforged.neoforge.event.tick.PlayerTickEvent;
+import net.neoforged.neoforge.event.entity.player.PlayerEvent;
+import net.neoforged.neoforge.event.tick.ServerTickEvent;
 import net.neoforged.neoforge.network.PacketDistributor;
 
+/**
+ * Keeps each player's client-side corruption grid ({@link ClientChunkCorruptionState}) in step with the server
+ * for the chunks around them.
+ *
+ * Every {@link #SYNC_PERIOD_TICKS}, per level:
+ *  - the chunks changed since the last pass are drained from the saved data once
+ *  - for each player, a window of chunks around them is diffed against what that player was last sent.
+ *    A moved window is rescanned in full; a stationary one only checks the changed chunks that fall inside it.
+ *  - only differing chunks are sent, as one delta packet per player (nothing is sent when nothing changed)
+ */
 @EventBusSubscriber(modid = SalvationMod.MODID)
 public final class ChunkCorruptionSync
 {
-    private static final String NBT_LAST_KEY = "salvation:lastChunkKey";
-    private static final String NBT_LAST_TIME = "salvation:lastChunkSyncTime";
-    private static final String NBT_LAST_VAL = "salvation:lastChunkCorruption";
-    private static final String NBT_LAST_MUTATED = "salvation:lastChunkBiomeMutated";
+    private ChunkCorruptionSync() {}
+
+    private static final int SYNC_PERIOD_TICKS = 10;
+
+    /** Upper bound on the window radius in chunks, regardless of server view distance. */
+    private static final int MAX_WINDOW_RADIUS = 10;
+
+    /** What one player's client currently holds. */
+    private static final class PlayerView
+    {
+        private ResourceKey<Level> dimension = null;
+        private int centerX;
+        private int centerZ;
+        private int radius = -1;
+        private byte stageOrd = -1;
+        // chunkKey -> packed value last sent (absent = 0)
+        private final Long2IntOpenHashMap sent = new Long2IntOpenHashMap();
+
+        private boolean contains(final long chunkKey)
+        {
+            return Math.abs(ChunkPos.getX(chunkKey) - centerX) <= radius && Math.abs(ChunkPos.getZ(chunkKey) - centerZ) <= radius;
+        }
+    }
+
+    private static final Map<UUID, PlayerView> VIEWS = new HashMap<>();
+
+    @SubscribeEvent
+    public static void onServerTick(final ServerTickEvent.Post event)
+    {
+        final MinecraftServer server = event.getServer();
+        if ((server.getTickCount() % SYNC_PERIOD_TICKS) != 0) return;
+
+        final int radius = Math.min(MAX_WINDOW_RADIUS, server.getPlayerList().getViewDistance());
+
+        for (final ServerLevel level : server.getAllLevels())
+        {
+            final SalvationSavedData data = SalvationSavedData.get(level);
+            final List<ServerPlayer> players = level.players();
 
-    private static final int SYNC_PERIOD_TICKS = 20; // tune: 10..40 is fine
+            // Nobody is watching: drop the changes anyway, or decay keeps growing the set for the whole uptime.
+            // A player arriving later gets a full window scan.
+            if (players.isEmpty())
+            {
+                data.discardChangedChunkKeys();
+                continue;
+            }
+
+            final long[] changed = data.drainChangedChunkKeys();
+            final CorruptionStage stage = SalvationManager.stageForLevel(level);
+            final byte stageOrd = (byte) (stage == null ? 0 : stage.ordinal());
+
+            for (final ServerPlayer player : players)
+            {
+                if (player == null) continue;
+                syncPlayer(level, data, player, changed, stageOrd, radius);
+            }
+        }
+    }
 
     @SubscribeEvent
-    public static void onPlayerTick(final PlayerTickEvent.Post event)
+    public static void onPlayerLoggedOut(final PlayerEvent.PlayerLoggedOutEvent event)
     {
-        if (!(event.getEntity() instanceof ServerPlayer player)) return;
-        if (!(player.level() instanceof ServerLevel level)) return;
+        VIEWS.remove(event.getEntity().getUUID());
+    }
+
+    private static void syncPlayer(final ServerLevel level,
+        final SalvationSavedData data,
+        final ServerPlayer player,
+        final long[] changed,
+        final byte stageOrd,
+        final int radius)
+    {
+        final PlayerView view = VIEWS.computeIfAbsent(player.getUUID(), id -> new PlayerView());
+        final ChunkPos center = player.chunkPosition();
+
+        final boolean reset = view.dimension != level.dimension();
+        final boolean moved = reset || center.x != view.centerX || center.z != view.centerZ || radius != view.radius;
 
-        final long gameTime = level.getGameTime();
-        final CompoundTag ptag = player.getPersistentData();
+        if (reset)
+        {
+            view.sent.clear();
+            view.dimension = level.dimension();
+        }
 
-        final ChunkPos cp = player.chunkPosition();
-        final long ck = cp.toLong();
+        view.centerX = center.x;
+        view.centerZ = center.z;
+        view.radius = radius;
 
-        final long lastKey = ptag.getLong(NBT_LAST_KEY);
-        final long lastTime = ptag.getLong(NBT_LAST_TIME);
+        final LongArrayList entries = new LongArrayList();
+        final int side = 2 * radius + 1;
 
-        // Throttle: send on chunk-change OR every SYNC_PERIOD_TICKS
-        if (ck == lastKey && (gameTime - lastTime) < SYNC_PERIOD_TICKS) return;
+        if (moved)
+        {
+            // The client prunes chunks outside its new window; forget them here too.
+            final ObjectIterator<Long2IntMap.Entry> it = view.sent.long2IntEntrySet().fastIterator();
+            while (it.hasNext())
+            {
+                if (!view.contains(it.next().getLongKey())) it.remove();
+            }
 
-        final SalvationSavedData data = SalvationSavedData.get(level);
-        final int corruption = data.getChunkCorruption(ck);
-        final boolean biomeMutated = data.hasMutatedCorruptedBiomeChunk(ck);
+            for (int dz = -radius; dz <= radius; dz++)
+            {
+                for (int dx = -radius; dx <= radius; dx++)
+                {
+                    diff(data, view, ChunkPos.asLong(center.x + dx, center.z + dz), (dz + radius) * side + (dx + radius), entries);
+                }
+            }
+        }
+        else
+        {
+            for (final long chunkKey : changed)
+            {
+                if (!view.contains(chunkKey)) continue;
 
-        // Also avoid sending if value hasn’t changed and we’re just on the period tick
-        final int lastVal = ptag.getInt(NBT_LAST_VAL);
-        final boolean lastMutated = ptag.getBoolean(NBT_LAST_MUTATED);
-        if (ck == lastKey && corruption == lastVal && biomeMutated == lastMutated && (gameTime - lastTime) < (SYNC_PERIOD_TICKS * 2L)) return;
+                final int dx = ChunkPos.getX(chunkKey) - center.x;
+                final int dz = ChunkPos.getZ(chunkKey) - center.z;
+                diff(data, view, chunkKey, (dz + radius) * side + (dx + radius), entries);
+            }
+        }
 
-        final CorruptionStage stage = SalvationManager.stageForLevel(level);
-        final byte stageOrd = (byte) (stage == null ? 0 : stage.ordinal());
+        if (!reset && !moved && entries.isEmpty() && stageOrd == view.stageOrd) return;
+
+        view.stageOrd = stageOrd;
+
+        final long[] sorted = entries.toLongArray();
+        Arrays.sort(sorted);
+
+        PacketDistributor.sendToPlayer(player, new ChunkCorruptionSyncMessage(stageOrd, reset, center.x, center.z, radius, sorted));
+    }
+
+    /**
+     * Queues an entry if the chunk's current state differs from what the player holds, and records it as sent.
+     */
+    private static void diff(final SalvationSavedData data, final PlayerView view, final long chunkKey, final int windowIndex, final LongArrayList entries)
+    {
+        final int packed = ClientChunkCorruptionState.pack(data.getChunkCorruption(chunkKey), data.hasMutatedCorruptedBiomeChunk(chunkKey));
+        if (packed == view.sent.get(chunkKey)) return;
 
-        // Send packet
-        PacketDistributor.sendToPlayer(player, new ChunkCorruptionSyncMessage(ck, corruption, stageOrd, biomeMutated));
+        if (packed == 0)
+        {
+            view.sent.remove(chunkKey);
+        }
+        else
+        {
+            view.sent.put(chunkKey, packed);
+        }
 
-        // Remember
-        ptag.putLong(NBT_LAST_KEY, ck);
-        ptag.putLong(NBT_LAST_TIME, gameTime);
-        ptag.putInt(NBT_LAST_VAL, corruption);
-        ptag.putBoolean(NBT_LAST_MUTATED, biomeMutated);
+        entries.add(((long) windowIndex << 32) | (packed & 0xFFFFFFFFL));
     }
 }
@@ -7,46 +7,80 @@ import net.minecraft.network.RegistryFriendlyByteBuf;
 import net.minecraft.world.entity.player.Player;
 import net.neoforged.neoforge.network.handling.IPayloadContext;
 
+/**
+ * Delta update of the chunk corruption values inside a player's view window.
+ *
+ * Entries are addressed by their index inside the (2 * radius + 1)^2 window around the center chunk,
+ * sorted ascending, and written as varint index gaps followed by a varint packed value
+ * (see {@link ClientChunkCorruptionState#pack}). Neighbouring changed chunks therefore cost about
+ * two bytes each. A packed value of 0 clears the chunk on the client.
+ */
 public final class ChunkCorruptionSyncMessage extends AbstractClientPlayMessage
 {
     public static final PlayMessageType<?> TYPE = PlayMessageType.forClient(SalvationMod.MODID, "chunk_corruption", ChunkCorruptionSyncMessage::new);
 
-    private final long chunkKey;   // ChunkPos#toLong()
-    private final int corruption;  // 0..CORRUPTION_HARD_MAX
-    private final byte stageOrd;   // optional, but handy for client tuning
-    private final boolean biomeMutated;
+    private final byte stageOrd;
+    private final boolean reset;       // client drops its whole grid before applying entries
+    private final int centerX;
+    private final int centerZ;
+    private final int radius;
+    private final long[] entries;      // (window index << 32) | packed value, sorted by index
 
-    public ChunkCorruptionSyncMessage(final long chunkKey, final int corruption, final byte stageOrd, final boolean biomeMutated)
+    public ChunkCorruptionSyncMessage(final byte stageOrd, final boolean reset, final int centerX, final int centerZ, final int radius, final long[] entries)
     {
         super(TYPE);
-        this.chunkKey = chunkKey;
-        this.corruption = corruption;
         this.stageOrd = stageOrd;
-        this.biomeMutated = biomeMutated;
+        this.reset = reset;
+        this.centerX = centerX;
+        this.centerZ = centerZ;
+        this.radius = radius;
+        this.entries = entries;
     }
 
     public ChunkCorruptionSyncMessage(final RegistryFriendlyByteBuf buf, final PlayMessageType<?> type)
     {
         super(buf, TYPE);
-        this.chunkKey = buf.readLong();
-        this.corruption = buf.readVarInt();
         this.stageOrd = buf.readByte();
-        this.biomeMutated = buf.readBoolean();
+        this.reset = buf.readBoolean();
+        this.centerX = buf.readInt();
+        this.centerZ = buf.readInt();
+        this.radius = buf.readVarInt();
+
+        final int count = buf.readVarInt();
+        this.entries = new long[count];
+
+        int index = 0;
+        for (int i = 0; i < count; i++)
+        {
+            index += buf.readVarInt();
+            entries[i] = ((long) index << 32) | (buf.readVarInt() & 0xFFFFFFFFL);
+        }
     }
 
     @Override
     public void toBytes(final RegistryFriendlyByteBuf buf)
     {
-        buf.writeLong(chunkKey);
-        buf.writeVarInt(corruption);
         buf.writeByte(stageOrd);
-        buf.writeBoolean(biomeMutated);
+        buf.writeBoolean(reset);
+        buf.writeInt(centerX);
+        buf.writeInt(centerZ);
+        buf.writeVarInt(radius);
+        buf.writeVarInt(entries.length);
+
+        int previous = 0;
+        for (final long entry : entries)
+        {
+            final int index = (int) (entry >>> 32);
+            buf.writeVarInt(index - previous);
+            buf.writeVarInt((int) entry);
+            previous = index;
+        }
     }
 
     @Override
     protected void onExecute(IPayloadContext arg0, Player arg1)
     {
         // Always run on client thread
-        ClientChunkCorruptionState.update(chunkKey, corruption, stageOrd, biomeMutated);
+        ClientChunkCorruptionState.apply(stageOrd, reset, centerX, centerZ, radius, entries);
     }
 }
@@ -1,43 +1,157 @@
 package com.deathfrog.salvationmod.network;
 
-import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicLong;
+import it.unimi.dsi.fastutil.longs.Long2IntMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import it.unimi.dsi.fastutil.objects.ObjectIterator;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.ChunkPos;
 
+/**
+ * Client-side sparse grid of chunk corruption inside the local player's view window, kept current by
+ * {@link ChunkCorruptionSyncMessage} deltas. Chunks absent from the grid are clean.
+ *
+ * All access happens on the client thread (message handling, client tick and rendering).
+ */
 public final class ClientChunkCorruptionState
 {
-    private static final AtomicLong currentChunkKey = new AtomicLong(0L);
-    private static final AtomicInteger targetCorruption = new AtomicInteger(0);
-    private static final AtomicInteger smoothedCorruption = new AtomicInteger(0);
-    private static volatile byte stageOrd = 0;
-    private static volatile boolean biomeMutated = false;
+    private static final int MUTATED_BIT = 1;
+    private static final int VALUE_SHIFT = 1;
 
-    public static void update(final long chunkKey, final int corruption, final byte stage, final boolean mutated)
+    // chunkKey -> packed value (0 = clean and unmutated)
+    private static final Long2IntOpenHashMap grid = new Long2IntOpenHashMap();
+
+    private static int windowCenterX = 0;
+    private static int windowCenterZ = 0;
+    private static int windowRadius = -1;
+
+    private static int targetCorruption = 0;
+    private static int smoothedCorruption = 0;
+    private static byte stageOrd = 0;
+    private static boolean biomeMutated = false;
+
+    /**
+     * Packs a chunk's synced state into one non-negative int; 0 means clean and unmutated.
+     */
+    public static int pack(final int corruption, final boolean mutated)
+    {
+        return (Math.max(0, corruption) << VALUE_SHIFT) | (mutated ? MUTATED_BIT : 0);
+    }
+
+    /**
+     * Applies a delta packet. Entries outside a moved window are pruned, as the server no longer tracks them.
+     */
+    public static void apply(final byte stage, final boolean reset, final int centerX, final int centerZ, final int radius, final long[] entries)
     {
-        currentChunkKey.set(chunkKey);
-        targetCorruption.set(corruption);
         stageOrd = stage;
-        biomeMutated = mutated;
+
+        if (reset)
+        {
+            grid.clear();
+        }
+        else if (centerX != windowCenterX || centerZ != windowCenterZ || radius != windowRadius)
+        {
+            final ObjectIterator<Long2IntMap.Entry> it = grid.long2IntEntrySet().fastIterator();
+            while (it.hasNext())
+            {
+                final long key = it.next().getLongKey();
+                if (Math.abs(ChunkPos.getX(key) - centerX) > radius || Math.abs(ChunkPos.getZ(key) - centerZ) > radius)
+                {
+                    it.remove();
+                }
+            }
+        }
+
+        windowCenterX = centerX;
+        windowCenterZ = centerZ;
+        windowRadius = radius;
+
+        final int side = 2 * radius + 1;
+        for (final long entry : entries)
+        {
+            final int index = (int) (entry >>> 32);
+            final int packed = (int) entry;
+            final long key = ChunkPos.asLong(centerX + (index % side) - radius, centerZ + (index / side) - radius);
+
+            if (packed == 0)
+            {
+                grid.remove(key);
+            }
+            else
+            {
+                grid.put(key, packed);
+            }
+        }
+    }
+
+    /** Drops all synced state (e.g. on disconnect). */
+    public static void clear()
+    {
+        grid.clear();
+        windowRadius = -1;
+        targetCorruption = 0;
+        smoothedCorruption = 0;
+        stageOrd = 0;
+        biomeMutated = false;
     }
 
-    /** Call once per client tick to smooth transitions. */
-    public static void clientTick()
+    /**
+     * Call once per client tick to smooth transitions at the player's position. The target is sampled across
+     * neighbouring chunks, so walking over a chunk border blends instead of stepping.
+     */
+    public static void clientTick(final double playerX, final double playerZ)
     {
-        final int t = targetCorruption.get();
-        final int s = smoothedCorruption.get();
+        targetCorruption = Math.round(sampleCorruption(playerX, playerZ));
+        biomeMutated = isBiomeMutated(Mth.floor(playerX) >> 4, Mth.floor(playerZ) >> 4);
+
+        final int t = targetCorruption;
+        final int s = smoothedCorruption;
 
         // Simple exponential-ish smoothing (fast enough to feel responsive, slow enough to avoid flicker)
-        final int next = s + (int) Math.signum(t - s) * Math.max(1, Math.abs(t - s) / 6);
-        smoothedCorruption.set(next);
+        smoothedCorruption = s + (int) Math.signum(t - s) * Math.max(1, Math.abs(t - s) / 6);
+    }
+
+    /**
+     * @return the synced corruption of the given chunk, or 0 if clean or outside the view window
+     */
+    public static int getCorruption(final int chunkX, final int chunkZ)
+    {
+        return grid.get(ChunkPos.asLong(chunkX, chunkZ)) >>> VALUE_SHIFT;
+    }
+
+    /**
+     * @return true if the given chunk's biome has been mutated to its corrupted variant
+     */
+    public static boolean isBiomeMutated(final int chunkX, final int chunkZ)
+    {
+        return (grid.get(ChunkPos.asLong(chunkX, chunkZ)) & MUTATED_BIT) != 0;
+    }
+
+    /**
+     * Samples corruption at a block position, bilinearly interpolated between the four nearest chunk centers.
+     * Gives overlays and fog a continuous field instead of a step at chunk borders.
+     */
+    public static float sampleCorruption(final double blockX, final double blockZ)
+    {
+        final double gx = blockX / 16.0D - 0.5D;
+        final double gz = blockZ / 16.0D - 0.5D;
+        final int x0 = Mth.floor(gx);
+        final int z0 = Mth.floor(gz);
+        final float fx = (float) (gx - x0);
+        final float fz = (float) (gz - z0);
+
+        final float top = Mth.lerp(fx, getCorruption(x0, z0), getCorruption(x0 + 1, z0));
+        final float bottom = Mth.lerp(fx, getCorruption(x0, z0 + 1), getCorruption(x0 + 1, z0 + 1));
+        return Mth.lerp(fz, top, bottom);
     }
 
     public static int getSmoothedCorruption()
     {
-        return smoothedCorruption.get();
+        return smoothedCorruption;
     }
 
     public static int getTargetCorruption()
     {
-        return targetCorruption.get();
+        return targetCorruption;
     }
 
     public static byte getStageOrd()